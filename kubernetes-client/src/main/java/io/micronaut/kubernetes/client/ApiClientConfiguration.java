@@ -64,6 +64,16 @@ public interface ApiClientConfiguration {
     @Bindable(defaultValue = "true")
     boolean getVerifySsl();
 
+    /**
+     * Whether to use the virtual threads for the Kubernetes API calls, the informers and the operator controllers.
+     * Requires JDK 21 or newer, the platform threads are used otherwise.
+     *
+     * @return whether to use the virtual threads
+     * @since 6.2
+     */
+    @Bindable(defaultValue = "false")
+    boolean isVirtualThreads();
+
     /**
      * {@link io.kubernetes.client.Discovery} configuration.
      *
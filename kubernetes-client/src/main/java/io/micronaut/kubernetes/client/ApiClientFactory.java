@@ -93,10 +93,10 @@ public class ApiClientFactory {
      * @param clientBuilder client builder
      * @return ApiClient api client
      * @throws IOException if the CA or Token files were not found
-     * @deprecated Use {@link #apiClient(ClientBuilder, ExecutorService)}.
+     * @deprecated Use {@link #apiClient(ClientBuilder, ApiClientConfiguration, ExecutorService)}.
      */
     public ApiClient apiClient(ClientBuilder clientBuilder) throws IOException {
-        return this.apiClient(clientBuilder, null);
+        return createApiClient(clientBuilder, null);
     }
 
     /**
@@ -107,9 +107,33 @@ public class ApiClientFactory {
      * @return ApiClient api client
      * @throws IOException if the CA or Token files were not found
      * @since 3.2
+     * @deprecated Use {@link #apiClient(ClientBuilder, ApiClientConfiguration, ExecutorService)}.
+     */
+    @Deprecated
+    public ApiClient apiClient(ClientBuilder clientBuilder, @Nullable ExecutorService executorService) throws IOException {
+        return createApiClient(clientBuilder, executorService);
+    }
+
+    /**
+     * Creates ApiClient. The calls are executed on the virtual threads when the
+     * {@link ApiClientConfiguration#isVirtualThreads()} mode is enabled, on the given executor otherwise.
+     *
+     * @param clientBuilder          client builder
+     * @param apiClientConfiguration api client configuration
+     * @param executorService        executor service
+     * @return ApiClient api client
+     * @throws IOException if the CA or Token files were not found
+     * @since 6.2
      */
     @Singleton
-    public ApiClient apiClient(ClientBuilder clientBuilder, @Nullable @Named(IO) ExecutorService executorService) throws IOException {
+    public ApiClient apiClient(ClientBuilder clientBuilder, ApiClientConfiguration apiClientConfiguration,
+                               @Nullable @Named(IO) ExecutorService executorService) throws IOException {
+        ExecutorService virtualExecutorService = VirtualThreads.newThreadPerTaskExecutor(
+                apiClientConfiguration.isVirtualThreads(), "kubernetes-client-");
+        return createApiClient(clientBuilder, virtualExecutorService != null ? virtualExecutorService : executorService);
+    }
+
+    private ApiClient createApiClient(ClientBuilder clientBuilder, @Nullable ExecutorService executorService) throws IOException {
         ApiClient apiClient = clientBuilder.build();
         Configuration.setDefaultApiClient(apiClient);
         OkHttpClient.Builder builder = apiClient.getHttpClient().newBuilder();
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the virtual threads when the {@link ApiClientConfiguration#isVirtualThreads()} mode is enabled. The virtual
+ * threads are available since JDK 21, hence they are created reflectively, and {@code null} is returned on the older
+ * JDKs so that the caller falls back to the platform threads.
+ *
+ * @since 6.2
+ */
+@Internal
+public final class VirtualThreads {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle NAME;
+    private static final MethodHandle FACTORY;
+    private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle name = null;
+        MethodHandle factory = null;
+        MethodHandle newThreadPerTaskExecutor = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+            name = lookup.findVirtual(builderClass, "name", MethodType.methodType(builderClass, String.class, long.class));
+            factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+            newThreadPerTaskExecutor = lookup.findStatic(Executors.class, "newThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+        } catch (ReflectiveOperationException e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return whether the virtual threads are supported by the JDK
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates the factory of the virtual threads.
+     *
+     * @param enabled    whether the virtual threads mode is enabled
+     * @param namePrefix the prefix of the thread names, followed by the thread counter
+     * @return the thread factory or null if the mode is disabled or the virtual threads are not supported
+     */
+    @Nullable
+    public static ThreadFactory threadFactory(boolean enabled, String namePrefix) {
+        if (!enabled) {
+            return null;
+        }
+        if (!isSupported()) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("The virtual threads are not supported by the JDK {}, using the platform threads for '{}'",
+                        Runtime.version(), namePrefix);
+            }
+            return null;
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke();
+            builder = NAME.invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create the virtual thread factory", e);
+        }
+    }
+
+    /**
+     * Creates the executor that starts a new virtual thread for every task.
+     *
+     * @param enabled    whether the virtual threads mode is enabled
+     * @param namePrefix the prefix of the thread names, followed by the thread counter
+     * @return the executor or null if the mode is disabled or the virtual threads are not supported
+     */
+    @Nullable
+    public static ExecutorService newThreadPerTaskExecutor(boolean enabled, String namePrefix) {
+        ThreadFactory threadFactory = threadFactory(enabled, namePrefix);
+        if (threadFactory == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(threadFactory);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create the virtual thread executor", e);
+        }
+    }
+}
@@ -13,6 +13,7 @@ class ApiClientConfigurationSpec extends Specification {
         expect:
         applicationContext.containsBean(ApiClientConfiguration.class)
         applicationContext.getBean(ApiClientConfiguration.class).getVerifySsl()
+        !applicationContext.getBean(ApiClientConfiguration.class).isVirtualThreads()
     }
 
     def "test it sets properties"(){
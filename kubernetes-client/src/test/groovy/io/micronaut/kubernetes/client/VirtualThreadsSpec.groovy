@@ -0,0 +1,40 @@
+package io.micronaut.kubernetes.client
+
+import spock.lang.Requires
+import spock.lang.Specification
+
+class VirtualThreadsSpec extends Specification {
+
+    def "it creates no thread factory when the mode is disabled"() {
+        expect:
+        VirtualThreads.threadFactory(false, "test-") == null
+        VirtualThreads.newThreadPerTaskExecutor(false, "test-") == null
+    }
+
+    @Requires({ !jvm.isJavaVersionCompatible(21) })
+    def "it falls back to the platform threads when the virtual threads are not supported"() {
+        expect:
+        !VirtualThreads.supported
+        VirtualThreads.threadFactory(true, "test-") == null
+        VirtualThreads.newThreadPerTaskExecutor(true, "test-") == null
+    }
+
+    @Requires({ jvm.isJavaVersionCompatible(21) })
+    def "it creates the named virtual threads"() {
+        when:
+        def thread = VirtualThreads.threadFactory(true, "test-").newThread({ })
+
+        then:
+        thread.virtual
+        thread.name == "test-0"
+
+        when:
+        def executor = VirtualThreads.newThreadPerTaskExecutor(true, "test-")
+
+        then:
+        executor.submit({ Thread.currentThread().virtual } as java.util.concurrent.Callable).get()
+
+        cleanup:
+        executor?.shutdown()
+    }
+}
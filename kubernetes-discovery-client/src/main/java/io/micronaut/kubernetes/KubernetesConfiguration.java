@@ -21,14 +21,17 @@ import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.env.Environment;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.discovery.DiscoveryConfiguration;
 import io.micronaut.kubernetes.client.NamespaceResolver;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Encapsulates constants for Kubernetes configuration.
@@ -43,12 +46,15 @@ import java.util.Map;
 public class KubernetesConfiguration {
 
     public static final String PREFIX = "kubernetes.client";
+    static final Duration DEFAULT_CONFIG_CLIENT_TIMEOUT = Duration.ofSeconds(30);
 
     private String namespace;
+    private Duration configClientTimeout = DEFAULT_CONFIG_CLIENT_TIMEOUT;
 
     private KubernetesDiscoveryConfiguration discovery = new KubernetesDiscoveryConfiguration();
     private KubernetesSecretsConfiguration secrets = new KubernetesSecretsConfiguration();
     private KubernetesConfigMapsConfiguration configMaps = new KubernetesConfigMapsConfiguration();
+    private KubernetesRefreshConfiguration refresh = new KubernetesRefreshConfiguration();
 
     /**
      * Default constructor.
@@ -89,6 +95,24 @@ public class KubernetesConfiguration {
         this.namespace = namespace;
     }
 
+    /**
+     * @return the timeout of reading the ConfigMaps and Secrets from the Kubernetes API by the configuration client.
+     * Defaults to 30 seconds.
+     * @since 6.2
+     */
+    @NonNull
+    public Duration getConfigClientTimeout() {
+        return configClientTimeout;
+    }
+
+    /**
+     * @param configClientTimeout the timeout of reading the ConfigMaps and Secrets from the Kubernetes API by the
+     *                            configuration client.
+     */
+    public void setConfigClientTimeout(@NonNull Duration configClientTimeout) {
+        this.configClientTimeout = configClientTimeout;
+    }
+
     /**
      * @return the {@link KubernetesSecretsConfiguration}.
      */
@@ -119,13 +143,30 @@ public class KubernetesConfiguration {
         this.configMaps = configMapsConfiguration;
     }
 
+    /**
+     * @return The environment refresh configuration properties
+     */
+    @NonNull
+    public KubernetesRefreshConfiguration getRefresh() {
+        return refresh;
+    }
+
+    /**
+     * @param refreshConfiguration The environment refresh configuration properties
+     */
+    public void setRefresh(KubernetesRefreshConfiguration refreshConfiguration) {
+        this.refresh = refreshConfiguration;
+    }
+
     @Override
     public String toString() {
         return "KubernetesConfiguration{" +
                 "namespace='" + namespace + '\'' +
+                ", configClientTimeout=" + configClientTimeout +
                 ", discovery=" + discovery +
                 ", secrets=" + secrets +
                 ", configMaps=" + configMaps +
+                ", refresh=" + refresh +
                 '}';
     }
 
@@ -140,6 +181,10 @@ public class KubernetesConfiguration {
         public static final String PREFIX = KubernetesConfiguration.PREFIX + "." + DiscoveryConfiguration.PREFIX;
 
         private String mode = DEFAULT_MODE;
+        private TopologyMode topologyMode = TopologyMode.DISABLED;
+        private String zone;
+        private ReadinessPolicy readinessPolicy = ReadinessPolicy.READY_ONLY;
+        private boolean watchServiceIds;
 
         /**
          * @return default service discovery mode
@@ -154,6 +199,105 @@ public class KubernetesConfiguration {
         public void setMode(String mode) {
             this.mode = mode;
         }
+
+        /**
+         * @return the topology aware processing of the discovered service instances. Defaults to {@link TopologyMode#DISABLED}.
+         */
+        @NonNull
+        public TopologyMode getTopologyMode() {
+            return topologyMode;
+        }
+
+        /**
+         * @param topologyMode the topology aware processing of the discovered service instances
+         */
+        public void setTopologyMode(@NonNull TopologyMode topologyMode) {
+            this.topologyMode = topologyMode;
+        }
+
+        /**
+         * @return the zone of the application, if not set it is resolved from the node the application pod runs on
+         */
+        public Optional<String> getZone() {
+            return Optional.ofNullable(zone);
+        }
+
+        /**
+         * @param zone the zone of the application
+         */
+        public void setZone(@Nullable String zone) {
+            this.zone = zone;
+        }
+
+        /**
+         * @return the readiness policy of the discovered endpoints. Defaults to {@link ReadinessPolicy#READY_ONLY}.
+         */
+        @NonNull
+        public ReadinessPolicy getReadinessPolicy() {
+            return readinessPolicy;
+        }
+
+        /**
+         * @param readinessPolicy the readiness policy of the discovered endpoints
+         */
+        public void setReadinessPolicy(@NonNull ReadinessPolicy readinessPolicy) {
+            this.readinessPolicy = readinessPolicy;
+        }
+
+        /**
+         * @return whether the service ids are listed from the metadata-only informer instead of the Kubernetes API.
+         * Defaults to {@code false}.
+         */
+        public boolean isWatchServiceIds() {
+            return watchServiceIds;
+        }
+
+        /**
+         * @param watchServiceIds whether the service ids are listed from the metadata-only informer instead of the
+         *                        Kubernetes API
+         */
+        public void setWatchServiceIds(boolean watchServiceIds) {
+            this.watchServiceIds = watchServiceIds;
+        }
+
+        /**
+         * The topology aware processing of the discovered service instances.
+         */
+        public enum TopologyMode {
+            /**
+             * The service instances are returned in the discovered order.
+             */
+            DISABLED,
+            /**
+             * The service instances in the same zone as the application are returned first.
+             */
+            ORDER,
+            /**
+             * Only the service instances in the same zone as the application are returned. All the service instances
+             * are returned if there is none in the same zone.
+             */
+            FILTER
+        }
+
+        /**
+         * The policy that decides which endpoints are discovered as the service instances based on their readiness.
+         */
+        public enum ReadinessPolicy {
+            /**
+             * Only the ready endpoints are discovered.
+             */
+            READY_ONLY,
+            /**
+             * The ready endpoints are discovered. If there is none, the endpoints that are terminating but still
+             * serving are discovered. Only supported by the {@code endpointslice} mode, the {@code Endpoints} don't
+             * carry the serving and terminating conditions.
+             */
+            INCLUDE_SERVING_TERMINATING,
+            /**
+             * All the endpoints are discovered regardless of their readiness.
+             */
+            PUBLISH_NOT_READY
+        }
     }
 
     /**
@@ -161,12 +305,14 @@ public class KubernetesConfiguration {
      */
     private abstract static class AbstractKubernetesConfiguration extends DiscoveryConfiguration {
         private static final Boolean DEFAULT_EXCEPTION_ON_POD_LABELS_MISSING = false;
+        private static final int DEFAULT_PAGE_SIZE = 500;
 
         private Collection<String> includes = new HashSet<>();
         private Collection<String> excludes = new HashSet<>();
         private Map<String, String> labels;
         private List<String> podLabels;
         private boolean exceptionOnPodLabelsMissing = DEFAULT_EXCEPTION_ON_POD_LABELS_MISSING;
+        private int pageSize = DEFAULT_PAGE_SIZE;
 
         /**
          * @return the names to include
@@ -247,6 +393,25 @@ public class KubernetesConfiguration {
         public void setExceptionOnPodLabelsMissing(boolean exceptionOnPodLabelsMissing) {
             this.exceptionOnPodLabelsMissing = exceptionOnPodLabelsMissing;
         }
+
+        /**
+         * @return the maximum number of resources listed from the API at once (default {@link #DEFAULT_PAGE_SIZE}).
+         * @since 6.2
+         */
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        /**
+         * Sets the maximum number of resources listed from the API at once, the remaining resources are listed by
+         * the following requests. If not positive then all the resources are listed at once.
+         * Default value ({@link #DEFAULT_PAGE_SIZE}).
+         *
+         * @param pageSize the maximum number of resources listed at once
+         */
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
     }
 
     /**
@@ -259,10 +424,13 @@ public class KubernetesConfiguration {
         static final String PREFIX = "secrets";
 
         static final boolean DEFAULT_ENABLED = false;
+        static final boolean DEFAULT_WATCH = false;
 
         private boolean enabled = DEFAULT_ENABLED;
         private Collection<String> paths;
         private boolean useApi;
+        private boolean watch = DEFAULT_WATCH;
+        private boolean watchPaths;
 
         @Override
         public boolean isEnabled() {
@@ -306,6 +474,36 @@ public class KubernetesConfiguration {
         public void setUseApi(boolean useApi) {
             this.useApi = useApi;
         }
+
+        /**
+         * @return whether to enable watching for the Secret changes. Defaults to {@value DEFAULT_WATCH}.
+         * @since 6.2
+         */
+        public boolean isWatch() {
+            return watch;
+        }
+
+        /**
+         * @param watch flag to watch for the Secret changes.
+         */
+        public void setWatch(boolean watch) {
+            this.watch = watch;
+        }
+
+        /**
+         * @return whether to watch the {@link #paths} where secrets are mounted for changes. Defaults to {@code false}.
+         * @since 6.2
+         */
+        public boolean isWatchPaths() {
+            return watchPaths;
+        }
+
+        /**
+         * @param watchPaths flag to watch the {@link #paths} where secrets are mounted for changes.
+         */
+        public void setWatchPaths(boolean watchPaths) {
+            this.watchPaths = watchPaths;
+        }
     }
 
     /**
@@ -320,6 +518,7 @@ public class KubernetesConfiguration {
         private Collection<String> paths;
         private boolean useApi;
         private boolean watch = DEFAULT_WATCH;
+        private boolean watchPaths;
 
         /**
          * @return paths where config maps are mounted
@@ -365,5 +564,73 @@ public class KubernetesConfiguration {
         public void setWatch(boolean watch) {
             this.watch = watch;
         }
+
+        /**
+         * @return whether to watch the {@link #paths} where config maps are mounted for changes. Defaults to {@code false}.
+         * @since 6.2
+         */
+        public boolean isWatchPaths() {
+            return watchPaths;
+        }
+
+        /**
+         * @param watchPaths flag to watch the {@link #paths} where config maps are mounted for changes.
+         */
+        public void setWatchPaths(boolean watchPaths) {
+            this.watchPaths = watchPaths;
+        }
+    }
+
+    /**
+     * Kubernetes environment refresh configuration properties. The changes of the watched resources are coalesced
+     * into a single environment refresh.
+     */
+    @ConfigurationProperties(KubernetesRefreshConfiguration.PREFIX)
+    @BootstrapContextCompatible
+    public static class KubernetesRefreshConfiguration {
+        public static final String PREFIX = "refresh";
+        static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(500);
+        static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(5);
+
+        private Duration quietPeriod = DEFAULT_QUIET_PERIOD;
+        private Duration maxDelay = DEFAULT_MAX_DELAY;
+
+        /**
+         * @return the period without any change after which the environment is refreshed. Defaults to 500 milliseconds.
+         */
+        @NonNull
+        public Duration getQuietPeriod() {
+            return quietPeriod;
+        }
+
+        /**
+         * @param quietPeriod the period without any change after which the environment is refreshed
+         */
+        public void setQuietPeriod(@NonNull Duration quietPeriod) {
+            this.quietPeriod = quietPeriod;
+        }
+
+        /**
+         * @return the maximum delay of the environment refresh after the first change. Defaults to 5 seconds.
+         */
+        @NonNull
+        public Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        /**
+         * @param maxDelay the maximum delay of the environment refresh after the first change
+         */
+        public void setMaxDelay(@NonNull Duration maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+
+        @Override
+        public String toString() {
+            return "KubernetesRefreshConfiguration{" +
+                    "quietPeriod=" + quietPeriod +
+                    ", maxDelay=" + maxDelay +
+                    '}';
+        }
     }
 }
@@ -25,6 +25,7 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.env.Environment;
 import io.micronaut.context.env.PropertySource;
 import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.discovery.config.ConfigurationClient;
 import io.micronaut.discovery.event.ServiceReadyEvent;
 import io.micronaut.kubernetes.KubernetesConfiguration;
@@ -63,6 +64,7 @@ public final class KubernetesConfigMapWatcher implements ResourceEventHandler<V1
     private final Environment environment;
     private final KubernetesConfiguration configuration;
     private final ApplicationEventPublisher<RefreshEvent> eventPublisher;
+    private final KubernetesEnvironmentRefresher environmentRefresher;
 
     // this flag controls when to start reflecting the changes to the discovery client
     private final AtomicBoolean serviceStarted = new AtomicBoolean(false);
@@ -75,8 +77,9 @@ public final class KubernetesConfigMapWatcher implements ResourceEventHandler<V1
      * @param configuration          the {@link KubernetesConfiguration}
      * @param executorService        the IO {@link ExecutorService} where the watch publisher will be scheduled on
      * @param eventPublisher         the {@link ApplicationEventPublisher}
-     * @deprecated Use new version {@link KubernetesConfigMapWatcher#KubernetesConfigMapWatcher(Environment, KubernetesConfiguration, ApplicationEventPublisher)}
+     * @deprecated Use new version {@link KubernetesConfigMapWatcher#KubernetesConfigMapWatcher(Environment, KubernetesConfiguration, ApplicationEventPublisher, KubernetesEnvironmentRefresher)}
      */
+    @Deprecated
     public KubernetesConfigMapWatcher(Environment environment, ApiClient apiClient, CoreV1Api coreV1Api, CoreV1ApiReactorClient coreV1ApiReactorClient, KubernetesConfiguration configuration, @Named("io") ExecutorService executorService, ApplicationEventPublisher<RefreshEvent> eventPublisher) {
         this(environment, configuration, eventPublisher);
         if (LOG.isDebugEnabled()) {
@@ -84,11 +87,33 @@ public final class KubernetesConfigMapWatcher implements ResourceEventHandler<V1
         }
     }
 
-    @Inject
+    /**
+     * @param environment    the {@link Environment}
+     * @param configuration  the {@link KubernetesConfiguration}
+     * @param eventPublisher the {@link ApplicationEventPublisher}
+     * @deprecated Use new version {@link KubernetesConfigMapWatcher#KubernetesConfigMapWatcher(Environment, KubernetesConfiguration, ApplicationEventPublisher, KubernetesEnvironmentRefresher)}
+     */
+    @Deprecated
     public KubernetesConfigMapWatcher(Environment environment, KubernetesConfiguration configuration, ApplicationEventPublisher<RefreshEvent> eventPublisher) {
+        this(environment, configuration, eventPublisher, null);
+    }
+
+    /**
+     * @param environment          the {@link Environment}
+     * @param configuration        the {@link KubernetesConfiguration}
+     * @param eventPublisher       the {@link ApplicationEventPublisher}
+     * @param environmentRefresher the {@link KubernetesEnvironmentRefresher} coalescing the refreshes of the environment
+     * @since 6.2
+     */
+    @Inject
+    public KubernetesConfigMapWatcher(Environment environment,
+                                      KubernetesConfiguration configuration,
+                                      ApplicationEventPublisher<RefreshEvent> eventPublisher,
+                                      @Nullable KubernetesEnvironmentRefresher environmentRefresher) {
         this.environment = environment;
         this.configuration = configuration;
         this.eventPublisher = eventPublisher;
+        this.environmentRefresher = environmentRefresher;
     }
 
     @EventListener
@@ -102,11 +127,14 @@ public final class KubernetesConfigMapWatcher implements ResourceEventHandler<V1
             return;
         }
 
-        PropertySource propertySource = null;
-        if (configMap != null) {
-            propertySource = KubernetesUtils.configMapAsPropertySource(configMap);
-        }
         if (passesIncludesExcludesLabelsFilters(configMap)) {
+            if (!KubernetesConfigurationClient.updateConfigMapVersion(configMap)) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("ConfigMap {} hasn't changed, skipping", configMap.getMetadata().getName());
+                }
+                return;
+            }
+            PropertySource propertySource = KubernetesUtils.configMapAsPropertySource(configMap);
             if (LOG.isDebugEnabled()) {
                 LOG.debug("PropertySource created from ConfigMap: {}", configMap.getMetadata().getName());
             }
@@ -121,11 +149,15 @@ public final class KubernetesConfigMapWatcher implements ResourceEventHandler<V1
         if (!serviceStarted.get()) {
             return;
         }
-        PropertySource propertySource = null;
-        if (configMap != null) {
-            propertySource = KubernetesUtils.configMapAsPropertySource(configMap);
-        }
         if (passesIncludesExcludesLabelsFilters(configMap)) {
+            // the informer resync and the changes of the metadata only don't affect the property source
+            if (!KubernetesConfigurationClient.updateConfigMapVersion(configMap)) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("ConfigMap {} hasn't changed, skipping", configMap.getMetadata().getName());
+                }
+                return;
+            }
+            PropertySource propertySource = KubernetesUtils.configMapAsPropertySource(configMap);
             if (LOG.isDebugEnabled()) {
                 LOG.debug("PropertySource modified by ConfigMap: {}", configMap.getMetadata().getName());
             }
@@ -151,16 +183,22 @@ public final class KubernetesConfigMapWatcher implements ResourceEventHandler<V1
             }
 
             KubernetesConfigurationClient.removePropertySourceFromCache(propertySource.getName());
+            KubernetesConfigurationClient.removeConfigMapVersion(configMap.getMetadata().getName());
             refreshEnvironment();
         }
     }
 
     /**
-     * Send a {@link RefreshEvent} when a {@link V1ConfigMap} change affects the {@link Environment}.
+     * Send a {@link RefreshEvent} when a {@link V1ConfigMap} change affects the {@link Environment}. The changes are
+     * coalesced by the {@link KubernetesEnvironmentRefresher} and the refresh runs off the informer thread.
      *
      * @see io.micronaut.management.endpoint.refresh.RefreshEndpoint#refresh(Boolean)
      */
     private void refreshEnvironment() {
+        if (environmentRefresher != null) {
+            environmentRefresher.requestRefresh();
+            return;
+        }
         final Map<String, Object> changes = environment.refreshAndDiff();
         if (LOG.isTraceEnabled()) {
             LOG.trace("Changes in ConfigMap property sources: [{}]", String.join(", ", changes.keySet()));
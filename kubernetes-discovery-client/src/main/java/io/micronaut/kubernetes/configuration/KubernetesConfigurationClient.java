@@ -17,8 +17,12 @@ package io.micronaut.kubernetes.configuration;
 
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1ConfigMapListBuilder;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1SecretList;
 import io.kubernetes.client.openapi.models.V1SecretListBuilder;
 import io.micronaut.context.annotation.BootstrapContextCompatible;
@@ -26,7 +30,9 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.env.Environment;
 import io.micronaut.context.env.EnvironmentPropertySource;
 import io.micronaut.context.env.PropertySource;
+import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.discovery.config.ConfigurationClient;
 import io.micronaut.kubernetes.KubernetesConfiguration;
@@ -40,17 +46,23 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static io.micronaut.kubernetes.util.KubernetesUtils.computePodLabelSelector;
@@ -74,10 +86,18 @@ public class KubernetesConfigurationClient implements ConfigurationClient {
     public static final String KUBERNETES_CONFIG_MAP_NAME_SUFFIX = " (Kubernetes ConfigMap)";
     public static final String KUBERNETES_SECRET_NAME_SUFFIX = " (Kubernetes Secret)";
     public static final String OPAQUE_SECRET_TYPE = "Opaque";
+    /**
+     * The field selector of the {@link #OPAQUE_SECRET_TYPE} secrets.
+     *
+     * @since 6.2
+     */
+    public static final String OPAQUE_SECRET_FIELD_SELECTOR = "type=" + OPAQUE_SECRET_TYPE;
 
     private static final Logger LOG = LoggerFactory.getLogger(KubernetesConfigurationClient.class);
 
     private static Map<String, PropertySource> propertySources = new ConcurrentHashMap<>();
+    private static Map<String, DataVersion> configMapVersions = new ConcurrentHashMap<>();
+    private static Map<String, DataVersion> secretVersions = new ConcurrentHashMap<>();
 
     private final CoreV1ApiReactorClient client;
     private final KubernetesConfiguration configuration;
@@ -107,7 +127,16 @@ public class KubernetesConfigurationClient implements ConfigurationClient {
             return Flux.fromIterable(propertySources.values());
         } else {
             LOG.trace("PropertySource cache is empty");
-            return Flux.from(getPropertySourcesFromConfigMaps()).mergeWith(getPropertySourcesFromSecrets());
+            // the pod is read at most once and the ConfigMaps and Secrets are listed concurrently
+            Mono<V1Pod> currentPod = KubernetesUtils.readCurrentPod(client, configuration.getNamespace()).cache();
+            Duration timeout = configuration.getConfigClientTimeout();
+            // a single deadline of the whole listing, not only of the first page or the gap between the pages
+            return Flux.merge(getPropertySourcesFromConfigMaps(currentPod), getPropertySourcesFromSecrets(currentPod))
+                    .collectList()
+                    .timeout(timeout, Mono.error(() -> new ConfigurationException("Failed to read the ConfigMaps and Secrets " +
+                            "from the Kubernetes API within " + timeout.toMillis() + "ms, configure the `" +
+                            KubernetesConfiguration.PREFIX + ".config-client-timeout` to change it")))
+                    .flatMapIterable(Function.identity());
         }
     }
 
@@ -153,7 +182,104 @@ public class KubernetesConfigurationClient implements ConfigurationClient {
         return propertySources;
     }
 
-    private Flux<PropertySource> getPropertySourcesFromConfigMaps() {
+    /**
+     * Records the resource version and the digest of the data of the given {@link V1ConfigMap}.
+     *
+     * @param configMap The ConfigMap
+     * @return {@code true} if the ConfigMap differs from the last recorded one, {@code false} if neither the resource
+     * version nor the data changed since
+     * @since 6.2
+     */
+    static boolean updateConfigMapVersion(@NonNull V1ConfigMap configMap) {
+        // the resource version is added to the data once the ConfigMap is converted to a PropertySource
+        return updateVersion(configMapVersions, configMap.getMetadata(), configMap.getData(), key -> !CONFIG_MAP_RESOURCE_VERSION.equals(key),
+                value -> Objects.toString(value, "").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Removes the recorded version of the given {@link V1ConfigMap} name.
+     *
+     * @param name The ConfigMap name
+     * @since 6.2
+     */
+    static void removeConfigMapVersion(String name) {
+        configMapVersions.remove(name);
+    }
+
+    /**
+     * Records the resource version and the digest of the data of the given {@link V1Secret}.
+     *
+     * @param secret The Secret
+     * @return {@code true} if the Secret differs from the last recorded one, {@code false} if neither the resource
+     * version nor the data changed since
+     * @since 6.2
+     */
+    static boolean updateSecretVersion(@NonNull V1Secret secret) {
+        return updateVersion(secretVersions, secret.getMetadata(), secret.getData(), key -> true,
+                value -> value == null ? new byte[0] : value);
+    }
+
+    /**
+     * Removes the recorded version of the given {@link V1Secret} name.
+     *
+     * @param name The Secret name
+     * @since 6.2
+     */
+    static void removeSecretVersion(String name) {
+        secretVersions.remove(name);
+    }
+
+    /**
+     * Converts the contents of the secret mounted as volume into a {@link PropertySource}.
+     *
+     * @param path     The mount point
+     * @param contents The contents of the mounted volume where keys are the file names and values are the file contents
+     * @return A PropertySource
+     * @since 6.2
+     */
+    static PropertySource mountedSecretAsPropertySource(Path path, Map<String, Object> contents) {
+        String propertySourceName = path.toString() + KUBERNETES_SECRET_NAME_SUFFIX;
+        int priority = EnvironmentPropertySource.POSITION + 150;
+        return PropertySource.of(propertySourceName, contents, priority);
+    }
+
+    private static <V> boolean updateVersion(Map<String, DataVersion> versions,
+                                             V1ObjectMeta metadata,
+                                             @Nullable Map<String, V> data,
+                                             Predicate<String> keyFilter,
+                                             Function<V, byte[]> valueBytes) {
+        String name = metadata.getName();
+        String resourceVersion = metadata.getResourceVersion();
+        DataVersion lastVersion = versions.get(name);
+        if (lastVersion != null && resourceVersion != null && resourceVersion.equals(lastVersion.resourceVersion)) {
+            return false;
+        }
+        byte[] digest = digest(data, keyFilter, valueBytes);
+        versions.put(name, new DataVersion(resourceVersion, digest));
+        return lastVersion == null || !MessageDigest.isEqual(digest, lastVersion.digest);
+    }
+
+    private static <V> byte[] digest(@Nullable Map<String, V> data, Predicate<String> keyFilter, Function<V, byte[]> valueBytes) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+        if (data != null) {
+            for (Map.Entry<String, V> entry : new TreeMap<>(data).entrySet()) {
+                if (keyFilter.test(entry.getKey())) {
+                    messageDigest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                    messageDigest.update((byte) 0);
+                    messageDigest.update(valueBytes.apply(entry.getValue()));
+                    messageDigest.update((byte) 0);
+                }
+            }
+        }
+        return messageDigest.digest();
+    }
+
+    private Flux<PropertySource> getPropertySourcesFromConfigMaps(Mono<V1Pod> currentPod) {
         Flux<PropertySource> propertySourceFlux = Flux.empty();
 
         KubernetesConfiguration.KubernetesConfigMapsConfiguration configMapsConfiguration = configuration.getConfigMaps();
@@ -168,38 +294,42 @@ public class KubernetesConfigurationClient implements ConfigurationClient {
 
                 Predicate<KubernetesObject> includesFilter = KubernetesUtils.getIncludesFilter(configMapsConfiguration.getIncludes());
                 Predicate<KubernetesObject> excludesFilter = KubernetesUtils.getExcludesFilter(configMapsConfiguration.getExcludes());
+                String fieldSelector = KubernetesUtils.computeFieldSelector(configMapsConfiguration.getIncludes(), configMapsConfiguration.getExcludes());
                 Map<String, String> labels = configMapsConfiguration.getLabels();
                 boolean exceptionOnPodLabelsMissing = configuration.getConfigMaps().isExceptionOnPodLabelsMissing();
 
-                Flux<PropertySource> configMapListFlux = computePodLabelSelector(client,
-                        configuration.getConfigMaps().getPodLabels(), configuration.getNamespace(), labels, exceptionOnPodLabelsMissing)
+                Flux<PropertySource> configMapListFlux = computePodLabelSelector(currentPod,
+                        configuration.getConfigMaps().getPodLabels(), labels, exceptionOnPodLabelsMissing)
                         .doOnError(throwable -> LOG.error("Failed to compute pod label selector: " + throwable.getMessage(), throwable))
                         .doOnNext(labelSelector -> {
                             if (LOG.isTraceEnabled()) {
-                                LOG.trace("Going to list ConfigMaps from namespace [{}] with label selector [{}]", configuration.getNamespace(), labelSelector);
+                                LOG.trace("Going to list ConfigMaps from namespace [{}] with label selector [{}] and field selector [{}]", configuration.getNamespace(), labelSelector, fieldSelector);
                             }
                         })
-                        .flatMap(labelSelector ->
-                                client.listNamespacedConfigMap(configuration.getNamespace(), null, null, null, null, labelSelector, null, null, null, null, null))
+                        .flatMapMany(labelSelector -> KubernetesUtils.listAllPages((continueToken, limit) ->
+                                client.listNamespacedConfigMap(configuration.getNamespace(), null, null, continueToken, fieldSelector, labelSelector, limit, null, null, null, null),
+                                configMapsConfiguration.getPageSize()))
                         .doOnError(ApiException.class, throwable -> LOG.error("Error to list ConfigMaps in the namespace [" + configuration.getNamespace() + "]: " + throwable.getResponseBody(), throwable))
                         .onErrorResume(throwable -> exceptionOnPodLabelsMissing
-                                ? Mono.error(throwable)
-                                : Mono.just(new V1ConfigMapListBuilder().withItems(new ArrayList<>()).build()))
+                                ? Flux.error(throwable)
+                                : Flux.just(new V1ConfigMapListBuilder().withItems(new ArrayList<>()).build()))
                         .doOnNext(configMapList -> {
                             if (LOG.isDebugEnabled()) {
                                 LOG.debug("Found {} config maps. Applying includes/excludes filters (if any)", configMapList.getItems().size());
                             }
                         })
-                        .flux()
-                        .flatMap(configMapList -> Flux.merge(
-                                Flux.just(configMapListAsPropertySource(configMapList)),
-                                Flux.fromIterable(configMapList.getItems())
+                        .index()
+                        .flatMap(page -> Flux.merge(
+                                // all the pages are of the same resource version
+                                page.getT1() == 0 ? Flux.just(configMapListAsPropertySource(page.getT2())) : Flux.empty(),
+                                Flux.fromIterable(page.getT2().getItems())
                                         .filter(includesFilter)
                                         .filter(excludesFilter)
                                         .doOnNext(configMap -> {
                                             if (LOG.isDebugEnabled()) {
                                                 LOG.debug("Adding config map with name {}", configMap.getMetadata().getName());
                                             }
+                                            updateConfigMapVersion(configMap);
                                         })
                                         .map(KubernetesUtils::configMapAsPropertySource)
                         ));
@@ -234,7 +364,7 @@ public class KubernetesConfigurationClient implements ConfigurationClient {
                                         continue;
                                     }
 
-                                    String value = new String(Files.readAllBytes(file));
+                                    String value = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
 
                                     if (LOG.isTraceEnabled()) {
                                         LOG.trace("Found file: {}", absolutePath);
@@ -280,7 +410,7 @@ public class KubernetesConfigurationClient implements ConfigurationClient {
         return PropertySource.of(KUBERNETES_CONFIG_MAP_LIST_NAME, singletonMap(CONFIG_MAP_LIST_RESOURCE_VERSION, resourceVersion), EnvironmentPropertySource.POSITION + 100);
     }
 
-    private Publisher<PropertySource> getPropertySourcesFromSecrets() {
+    private Publisher<PropertySource> getPropertySourcesFromSecrets(Mono<V1Pod> currentPod) {
         Flux<PropertySource> propertySourceFlowable = Flux.empty();
         if (configuration.getSecrets().isEnabled()) {
             Collection<String> mountedVolumePaths = configuration.getSecrets().getPaths();
@@ -292,16 +422,20 @@ public class KubernetesConfigurationClient implements ConfigurationClient {
 
                 Predicate<KubernetesObject> includesFilter = KubernetesUtils.getIncludesFilter(configuration.getSecrets().getIncludes());
                 Predicate<KubernetesObject> excludesFilter = KubernetesUtils.getExcludesFilter(configuration.getSecrets().getExcludes());
+                String fieldSelector = KubernetesUtils.computeFieldSelector(configuration.getSecrets().getIncludes(),
+                        configuration.getSecrets().getExcludes(), OPAQUE_SECRET_FIELD_SELECTOR);
                 Map<String, String> labels = configuration.getSecrets().getLabels();
                 boolean exceptionOnPodLabelsMissing = configuration.getSecrets().isExceptionOnPodLabelsMissing();
 
-                Flux<PropertySource> secretListFlowable = computePodLabelSelector(client,
-                    configuration.getSecrets().getPodLabels(), configuration.getNamespace(), labels, exceptionOnPodLabelsMissing)
-                        .flatMap(labelSelector -> client.listNamespacedSecret(configuration.getNamespace(), null, null, null, null, labelSelector, null, null, null, null, null))
+                Flux<PropertySource> secretListFlowable = computePodLabelSelector(currentPod,
+                    configuration.getSecrets().getPodLabels(), labels, exceptionOnPodLabelsMissing)
+                        .flatMapMany(labelSelector -> KubernetesUtils.listAllPages((continueToken, limit) ->
+                                client.listNamespacedSecret(configuration.getNamespace(), null, null, continueToken, fieldSelector, labelSelector, limit, null, null, null, null),
+                                configuration.getSecrets().getPageSize()))
                         .doOnError(ApiException.class, throwable -> LOG.error("Failed to list Secrets in the namespace [" + configuration.getNamespace() + "]: " + throwable.getResponseBody(), throwable))
                         .onErrorResume(throwable -> exceptionOnPodLabelsMissing
-                                                       ? Mono.error(throwable)
-                                                       : Mono.just(new V1SecretListBuilder().withItems(new ArrayList<>()).build()))
+                                                       ? Flux.error(throwable)
+                                                       : Flux.just(new V1SecretListBuilder().withItems(new ArrayList<>()).build()))
                         .doOnNext(secretList -> {
                             if (LOG.isDebugEnabled()) {
                                 LOG.debug("Found {} secrets. Filtering Opaque secrets and includes/excludes (if any)", secretList.getItems().size());
@@ -315,6 +449,7 @@ public class KubernetesConfigurationClient implements ConfigurationClient {
                             if (LOG.isDebugEnabled()) {
                                 LOG.debug("Adding secret with name {}", secret.getMetadata().getName());
                             }
+                            updateSecretVersion(secret);
                         })
                         .map(KubernetesUtils::secretAsPropertySource);
 
@@ -336,16 +471,14 @@ public class KubernetesConfigurationClient implements ConfigurationClient {
                                 for (Path file : stream) {
                                     if (!Files.isDirectory(file)) {
                                         String key = file.getFileName().toString();
-                                        String value = new String(Files.readAllBytes(file));
+                                        String value = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
                                         if (LOG.isTraceEnabled()) {
                                             LOG.trace("Processing key: {}", key);
                                         }
                                         propertySourceContents.put(key, value);
                                     }
                                 }
-                                String propertySourceName = path.toString() + KUBERNETES_SECRET_NAME_SUFFIX;
-                                int priority = EnvironmentPropertySource.POSITION + 150;
-                                PropertySource propertySource = PropertySource.of(propertySourceName, propertySourceContents, priority);
+                                PropertySource propertySource = mountedSecretAsPropertySource(path, propertySourceContents);
                                 addPropertySourceToCache(propertySource);
                                 propertySources.add(propertySource);
                             } catch (IOException e) {
@@ -364,4 +497,16 @@ public class KubernetesConfigurationClient implements ConfigurationClient {
         return propertySourceFlowable;
     }
 
+    /**
+     * The last seen version of a ConfigMap or Secret.
+     */
+    private static final class DataVersion {
+        private final String resourceVersion;
+        private final byte[] digest;
+
+        private DataVersion(String resourceVersion, byte[] digest) {
+            this.resourceVersion = resourceVersion;
+            this.digest = digest;
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.configuration;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.env.Environment;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.kubernetes.KubernetesConfiguration;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Coalesces the refresh requests of the Kubernetes property sources into a single {@link Environment#refreshAndDiff()}
+ * and {@link RefreshEvent}. The refresh is executed once there was no other request within the configured quiet
+ * period, but not later than the configured max delay after the first request.
+ *
+ * @see KubernetesConfiguration.KubernetesRefreshConfiguration
+ * @since 6.2
+ */
+@Internal
+@Singleton
+@Requires(env = Environment.KUBERNETES)
+public class KubernetesEnvironmentRefresher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KubernetesEnvironmentRefresher.class);
+
+    private final Environment environment;
+    private final ApplicationEventPublisher<RefreshEvent> eventPublisher;
+    private final ScheduledExecutorService executorService;
+    private final long quietPeriodNanos;
+    private final long maxDelayNanos;
+    private final LongSupplier nanoTime;
+
+    private final Object lock = new Object();
+    private final Object refreshLock = new Object();
+    private ScheduledFuture<?> scheduledRefresh;
+    private long scheduledGeneration;
+    private long firstRequestNanos;
+
+    /**
+     * @param environment     the {@link Environment}
+     * @param eventPublisher  the {@link ApplicationEventPublisher}
+     * @param executorService the scheduled {@link ScheduledExecutorService} the refresh is executed on
+     * @param configuration   the {@link KubernetesConfiguration}
+     */
+    public KubernetesEnvironmentRefresher(Environment environment,
+                                          ApplicationEventPublisher<RefreshEvent> eventPublisher,
+                                          @Named(TaskExecutors.SCHEDULED) ScheduledExecutorService executorService,
+                                          KubernetesConfiguration configuration) {
+        this(environment, eventPublisher, executorService, configuration, System::nanoTime);
+    }
+
+    /**
+     * @param environment     the {@link Environment}
+     * @param eventPublisher  the {@link ApplicationEventPublisher}
+     * @param executorService the scheduled {@link ScheduledExecutorService} the refresh is executed on
+     * @param configuration   the {@link KubernetesConfiguration}
+     * @param nanoTime        the source of the current time in nanoseconds
+     */
+    KubernetesEnvironmentRefresher(Environment environment,
+                                   ApplicationEventPublisher<RefreshEvent> eventPublisher,
+                                   ScheduledExecutorService executorService,
+                                   KubernetesConfiguration configuration,
+                                   LongSupplier nanoTime) {
+        this.environment = environment;
+        this.eventPublisher = eventPublisher;
+        this.executorService = executorService;
+        this.quietPeriodNanos = configuration.getRefresh().getQuietPeriod().toNanos();
+        this.maxDelayNanos = configuration.getRefresh().getMaxDelay().toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Requests the refresh of the {@link Environment}.
+     */
+    public void requestRefresh() {
+        synchronized (lock) {
+            long now = nanoTime.getAsLong();
+            if (scheduledRefresh == null) {
+                firstRequestNanos = now;
+            } else {
+                scheduledRefresh.cancel(false);
+            }
+            long delay = Math.max(0, Math.min(quietPeriodNanos, firstRequestNanos + maxDelayNanos - now));
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Scheduling the environment refresh in {} ms", TimeUnit.NANOSECONDS.toMillis(delay));
+            }
+            long generation = ++scheduledGeneration;
+            scheduledRefresh = executorService.schedule(() -> refresh(generation), delay, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Cancels the scheduled refresh.
+     */
+    @PreDestroy
+    public void close() {
+        synchronized (lock) {
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel(false);
+                scheduledRefresh = null;
+            }
+        }
+    }
+
+    /**
+     * Send a {@link RefreshEvent} when a change affects the {@link Environment}.
+     *
+     * @param generation the generation of the scheduled refresh
+     * @see io.micronaut.management.endpoint.refresh.RefreshEndpoint#refresh(Boolean)
+     */
+    private void refresh(long generation) {
+        synchronized (lock) {
+            // the refresh requested after this one started is scheduled already and must stay cancellable
+            if (scheduledGeneration == generation) {
+                scheduledRefresh = null;
+            }
+        }
+        // the refreshes must not overlap in case the next one is scheduled while this one is still running
+        synchronized (refreshLock) {
+            try {
+                final Map<String, Object> changes = environment.refreshAndDiff();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Changes in Kubernetes property sources: [{}]", String.join(", ", changes.keySet()));
+                }
+                if (!changes.isEmpty()) {
+                    eventPublisher.publishEvent(new RefreshEvent(changes));
+                }
+            } catch (Exception e) {
+                if (LOG.isErrorEnabled()) {
+                    LOG.error("Failed to refresh the environment: " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+}
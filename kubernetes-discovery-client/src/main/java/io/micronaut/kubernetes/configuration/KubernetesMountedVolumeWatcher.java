@@ -0,0 +1,313 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.configuration;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.env.Environment;
+import io.micronaut.context.env.PropertySource;
+import io.micronaut.discovery.config.ConfigurationClient;
+import io.micronaut.discovery.event.ServiceReadyEvent;
+import io.micronaut.kubernetes.KubernetesConfiguration;
+import io.micronaut.kubernetes.util.KubernetesUtils;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * Watches the paths where the ConfigMaps and Secrets are mounted for changes and makes the appropriate changes to the
+ * {@link Environment} by replacing the {@link PropertySource}s of the changed files.
+ *
+ * <p>The kubelet updates the mounted volume by creating a new timestamped directory and atomically swapping the
+ * {@code ..data} symlink the files point to, therefore the file is considered changed when the path it resolves to,
+ * its size or last modified time changes.</p>
+ *
+ * @since 6.2
+ */
+@Context
+@Requires(env = Environment.KUBERNETES)
+@Requires(property = ConfigurationClient.ENABLED, value = "true", defaultValue = "false")
+@Requires(condition = KubernetesMountedVolumeWatcherCondition.class)
+public final class KubernetesMountedVolumeWatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KubernetesMountedVolumeWatcher.class);
+
+    private final KubernetesEnvironmentRefresher environmentRefresher;
+    private final ExecutorService executorService;
+    private final Map<WatchKey, MountedVolume> volumes = new ConcurrentHashMap<>();
+    private final WatchService watchService;
+
+    // this flag controls when to start reflecting the changes to the discovery client
+    private final AtomicBoolean serviceStarted = new AtomicBoolean(false);
+
+    /**
+     * @param configuration        the {@link KubernetesConfiguration}
+     * @param environmentRefresher the {@link KubernetesEnvironmentRefresher}
+     * @param executorService      the IO {@link ExecutorService} where the watch loop is executed on
+     */
+    public KubernetesMountedVolumeWatcher(KubernetesConfiguration configuration,
+                                          KubernetesEnvironmentRefresher environmentRefresher,
+                                          @Named(TaskExecutors.IO) ExecutorService executorService) {
+        this.environmentRefresher = environmentRefresher;
+        this.executorService = executorService;
+        this.watchService = newWatchService();
+        if (watchService == null) {
+            return;
+        }
+        if (KubernetesMountedVolumeWatcherCondition.isWatchPaths(configuration.getConfigMaps())) {
+            configuration.getConfigMaps().getPaths().forEach(path -> register(Paths.get(path), false));
+        }
+        if (KubernetesMountedVolumeWatcherCondition.isWatchPaths(configuration.getSecrets())) {
+            configuration.getSecrets().getPaths().forEach(path -> register(Paths.get(path), true));
+        }
+    }
+
+    @EventListener
+    public void onApplicationEvent(ServiceReadyEvent event) {
+        // the changes made until now are queued by the watch service
+        if (watchService != null && !volumes.isEmpty() && serviceStarted.compareAndSet(false, true)) {
+            executorService.execute(this::watch);
+        }
+    }
+
+    /**
+     * Stops watching the mounted volumes.
+     */
+    @PreDestroy
+    public void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Failed to close the watch service: " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private void register(Path path, boolean secret) {
+        try {
+            WatchKey key = path.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+            MountedVolume volume = new MountedVolume(path, secret);
+            scan(volume);
+            volumes.put(key, volume);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Watching {} mounted on path: {}", secret ? "Secret" : "ConfigMap", path);
+            }
+        } catch (IOException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Failed to watch the mounted volume on path: " + path, e);
+            }
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                // drain the events of all the volumes changed at once, e.g. by the kubelet symlink swap
+                Set<MountedVolume> changedVolumes = new LinkedHashSet<>();
+                while (key != null) {
+                    key.pollEvents();
+                    MountedVolume volume = volumes.get(key);
+                    if (volume != null) {
+                        changedVolumes.add(volume);
+                    }
+                    if (!key.reset()) {
+                        volumes.remove(key);
+                        if (volume != null && LOG.isWarnEnabled()) {
+                            LOG.warn("Mounted volume on path {} is no longer watched", volume.path);
+                        }
+                    }
+                    key = watchService.poll();
+                }
+                boolean changed = false;
+                for (MountedVolume volume : changedVolumes) {
+                    changed |= reload(volume);
+                }
+                if (changed) {
+                    environmentRefresher.requestRefresh();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Stopped watching the mounted volumes");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean reload(MountedVolume volume) {
+        Map<String, MountedFile> previousFiles = volume.files;
+        Set<String> changedFiles;
+        try {
+            changedFiles = scan(volume);
+        } catch (IOException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Exception occurred when reading the mounted volume on path: " + volume.path, e);
+            }
+            return false;
+        }
+        Set<String> removedFiles = new LinkedHashSet<>(previousFiles.keySet());
+        removedFiles.removeAll(volume.files.keySet());
+        if (changedFiles.isEmpty() && removedFiles.isEmpty()) {
+            return false;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Files changed on path {}: {}, removed: {}", volume.path, changedFiles, removedFiles);
+        }
+
+        if (volume.secret) {
+            Map<String, Object> contents = new HashMap<>();
+            volume.files.forEach((name, file) -> contents.put(name, file.content));
+            PropertySource propertySource = KubernetesConfigurationClient.mountedSecretAsPropertySource(volume.path, contents);
+            KubernetesConfigurationClient.removePropertySourceFromCache(propertySource.getName());
+            KubernetesConfigurationClient.addPropertySourceToCache(propertySource);
+        } else {
+            for (String name : removedFiles) {
+                KubernetesConfigurationClient.removePropertySourceFromCache(configMapPropertySourceName(volume.path, name));
+            }
+            Map<String, String> data = new HashMap<>();
+            for (String name : changedFiles) {
+                KubernetesConfigurationClient.removePropertySourceFromCache(configMapPropertySourceName(volume.path, name));
+                data.put(name, volume.files.get(name).content);
+            }
+            if (!data.isEmpty()) {
+                KubernetesUtils.configMapAsPropertySource(volume.path.toString(), data)
+                        .forEach(KubernetesConfigurationClient::addPropertySourceToCache);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the files of the mounted volume which changed since the last scan.
+     *
+     * @param volume the mounted volume
+     * @return the names of the changed files
+     * @throws IOException when the volume can't be read
+     */
+    private static Set<String> scan(MountedVolume volume) throws IOException {
+        Map<String, MountedFile> files = new HashMap<>();
+        Set<String> changedFiles = new LinkedHashSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(volume.path)) {
+            for (Path file : stream) {
+                // the kubelet's ..data symlink and timestamped directories are skipped as the files point to them
+                if (!Files.isRegularFile(file)) {
+                    continue;
+                }
+                String name = file.getFileName().toString();
+                Path realPath = file.toRealPath();
+                BasicFileAttributes attributes = Files.readAttributes(realPath, BasicFileAttributes.class);
+                MountedFile previous = volume.files.get(name);
+                if (previous != null && previous.isSame(realPath, attributes)) {
+                    files.put(name, previous);
+                    continue;
+                }
+                MountedFile mountedFile = new MountedFile(realPath, attributes, new String(Files.readAllBytes(realPath), StandardCharsets.UTF_8));
+                files.put(name, mountedFile);
+                // the symlink swap changes the path of all the files, even of those whose content is the same
+                if (previous == null || !previous.content.equals(mountedFile.content)) {
+                    changedFiles.add(name);
+                }
+            }
+        }
+        volume.files = files;
+        return changedFiles;
+    }
+
+    private static String configMapPropertySourceName(Path path, String fileName) {
+        return path + "/" + fileName + KubernetesConfigurationClient.KUBERNETES_CONFIG_MAP_NAME_SUFFIX;
+    }
+
+    private static WatchService newWatchService() {
+        try {
+            return FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Failed to create the watch service, the mounted volumes won't be watched for changes", e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The watched mounted volume.
+     */
+    private static final class MountedVolume {
+        private final Path path;
+        private final boolean secret;
+        private volatile Map<String, MountedFile> files = new HashMap<>();
+
+        private MountedVolume(Path path, boolean secret) {
+            this.path = path;
+            this.secret = secret;
+        }
+    }
+
+    /**
+     * The last read state of the mounted file.
+     */
+    private static final class MountedFile {
+        private final Path realPath;
+        private final FileTime lastModifiedTime;
+        private final long size;
+        private final String content;
+
+        private MountedFile(Path realPath, BasicFileAttributes attributes, String content) {
+            this.realPath = realPath;
+            this.lastModifiedTime = attributes.lastModifiedTime();
+            this.size = attributes.size();
+            this.content = content;
+        }
+
+        private boolean isSame(Path realPath, BasicFileAttributes attributes) {
+            return this.realPath.equals(realPath)
+                    && Objects.equals(lastModifiedTime, attributes.lastModifiedTime())
+                    && size == attributes.size();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.configuration;
+
+import io.micronaut.context.condition.Condition;
+import io.micronaut.context.condition.ConditionContext;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.kubernetes.KubernetesConfiguration;
+
+/**
+ * Condition evaluates when the {@link KubernetesMountedVolumeWatcher} is enabled.
+ *
+ * @since 6.2
+ */
+@Internal
+public class KubernetesMountedVolumeWatcherCondition implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context) {
+        final KubernetesConfiguration.KubernetesConfigMapsConfiguration configMapsConfiguration =
+                context.getBean(KubernetesConfiguration.KubernetesConfigMapsConfiguration.class);
+        final KubernetesConfiguration.KubernetesSecretsConfiguration secretsConfiguration =
+                context.getBean(KubernetesConfiguration.KubernetesSecretsConfiguration.class);
+
+        if (!isWatchPaths(configMapsConfiguration) && !isWatchPaths(secretsConfiguration)) {
+            context.fail("watch for the changes of the config maps and secrets mounted volumes is disabled");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param configuration the config maps configuration
+     * @return whether the paths where config maps are mounted are watched
+     */
+    static boolean isWatchPaths(KubernetesConfiguration.KubernetesConfigMapsConfiguration configuration) {
+        return configuration.isEnabled() && configuration.isWatchPaths() && !configuration.getPaths().isEmpty();
+    }
+
+    /**
+     * @param configuration the secrets configuration
+     * @return whether the paths where secrets are mounted are watched
+     */
+    static boolean isWatchPaths(KubernetesConfiguration.KubernetesSecretsConfiguration configuration) {
+        return configuration.isEnabled() && configuration.isWatchPaths() && !configuration.getPaths().isEmpty();
+    }
+}
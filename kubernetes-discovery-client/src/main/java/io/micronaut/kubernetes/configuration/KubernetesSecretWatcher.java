@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.configuration;
+
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretList;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.env.Environment;
+import io.micronaut.context.env.PropertySource;
+import io.micronaut.discovery.config.ConfigurationClient;
+import io.micronaut.discovery.event.ServiceReadyEvent;
+import io.micronaut.kubernetes.KubernetesConfiguration;
+import io.micronaut.kubernetes.client.informer.Informer;
+import io.micronaut.kubernetes.client.reactor.CoreV1ApiReactorClient;
+import io.micronaut.kubernetes.util.KubernetesUtils;
+import io.micronaut.runtime.event.annotation.EventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Watches for the changes of the Opaque Secrets and makes the appropriate changes to the {@link Environment} by adding
+ * or removing {@link PropertySource}s.
+ *
+ * @since 6.2
+ */
+@Context
+@Requires(env = Environment.KUBERNETES)
+@Requires(beans = CoreV1ApiReactorClient.class)
+@Requires(property = ConfigurationClient.ENABLED, value = "true", defaultValue = "false")
+@Requires(condition = KubernetesSecretWatcherCondition.class)
+@Informer(apiType = V1Secret.class, apiListType = V1SecretList.class, resourcePlural = "secrets", apiGroup = "",
+        labelSelectorSupplier = SecretLabelSupplier.class, fieldSelector = KubernetesConfigurationClient.OPAQUE_SECRET_FIELD_SELECTOR)
+public final class KubernetesSecretWatcher implements ResourceEventHandler<V1Secret> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KubernetesSecretWatcher.class);
+
+    private final KubernetesConfiguration configuration;
+    private final KubernetesEnvironmentRefresher environmentRefresher;
+
+    // this flag controls when to start reflecting the changes to the discovery client
+    private final AtomicBoolean serviceStarted = new AtomicBoolean(false);
+
+    /**
+     * @param configuration        the {@link KubernetesConfiguration}
+     * @param environmentRefresher the {@link KubernetesEnvironmentRefresher}
+     */
+    public KubernetesSecretWatcher(KubernetesConfiguration configuration, KubernetesEnvironmentRefresher environmentRefresher) {
+        this.configuration = configuration;
+        this.environmentRefresher = environmentRefresher;
+    }
+
+    @EventListener
+    public void onApplicationEvent(ServiceReadyEvent event) {
+        serviceStarted.set(true);
+    }
+
+    @Override
+    public void onAdd(V1Secret secret) {
+        if (!serviceStarted.get()) {
+            return;
+        }
+        if (passesFilters(secret) && KubernetesConfigurationClient.updateSecretVersion(secret)) {
+            PropertySource propertySource = KubernetesUtils.secretAsPropertySource(secret);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("PropertySource created from Secret: {}", secret.getMetadata().getName());
+            }
+
+            KubernetesConfigurationClient.addPropertySourceToCache(propertySource);
+            environmentRefresher.requestRefresh();
+        }
+    }
+
+    @Override
+    public void onUpdate(V1Secret oldObj, V1Secret secret) {
+        if (!serviceStarted.get()) {
+            return;
+        }
+        // the informer resync and the changes of the metadata only don't affect the property source
+        if (passesFilters(secret) && KubernetesConfigurationClient.updateSecretVersion(secret)) {
+            PropertySource propertySource = KubernetesUtils.secretAsPropertySource(secret);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("PropertySource modified by Secret: {}", secret.getMetadata().getName());
+            }
+
+            KubernetesConfigurationClient.removePropertySourceFromCache(propertySource.getName());
+            KubernetesConfigurationClient.addPropertySourceToCache(propertySource);
+            environmentRefresher.requestRefresh();
+        }
+    }
+
+    @Override
+    public void onDelete(V1Secret secret, boolean deletedFinalStateUnknown) {
+        if (!serviceStarted.get()) {
+            return;
+        }
+        if (passesFilters(secret)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Removed PropertySource created from Secret: {}", secret.getMetadata().getName());
+            }
+
+            KubernetesConfigurationClient.removePropertySourceFromCache(secret.getMetadata().getName() + KubernetesConfigurationClient.KUBERNETES_SECRET_NAME_SUFFIX);
+            KubernetesConfigurationClient.removeSecretVersion(secret.getMetadata().getName());
+            environmentRefresher.requestRefresh();
+        }
+    }
+
+    private boolean passesFilters(V1Secret secret) {
+        if (!Objects.equals(secret.getType(), KubernetesConfigurationClient.OPAQUE_SECRET_TYPE)) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Secret {} not added because it isn't Opaque", secret.getMetadata().getName());
+            }
+            return false;
+        }
+
+        Collection<String> includes = configuration.getSecrets().getIncludes();
+        Collection<String> excludes = configuration.getSecrets().getExcludes();
+
+        boolean process = true;
+        if (!includes.isEmpty()) {
+            process = includes.contains(secret.getMetadata().getName());
+        } else if (!excludes.isEmpty()) {
+            process = !excludes.contains(secret.getMetadata().getName());
+        }
+
+        if (!process && LOG.isTraceEnabled()) {
+            LOG.trace("Secret {} not added because it doesn't match includes/excludes filters", secret.getMetadata().getName());
+        }
+
+        return process;
+    }
+}
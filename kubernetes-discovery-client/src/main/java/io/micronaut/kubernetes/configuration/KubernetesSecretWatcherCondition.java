@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.configuration;
+
+import io.micronaut.context.condition.Condition;
+import io.micronaut.context.condition.ConditionContext;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.kubernetes.KubernetesConfiguration;
+
+/**
+ * Condition evaluates when the {@link KubernetesSecretWatcher} is enabled.
+ *
+ * @since 6.2
+ */
+@Internal
+public class KubernetesSecretWatcherCondition implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context) {
+        final KubernetesConfiguration.KubernetesSecretsConfiguration secretsConfiguration =
+                context.getBean(KubernetesConfiguration.KubernetesSecretsConfiguration.class);
+
+        if (!secretsConfiguration.isEnabled()) {
+            context.fail("configuration client for the Secrets is disabled");
+            return false;
+        }
+
+        if (!secretsConfiguration.isWatch()) {
+            context.fail("watch for the Secret changes is disabled");
+            return false;
+        }
+
+        if (!secretsConfiguration.getPaths().isEmpty() && !secretsConfiguration.isUseApi()) {
+            context.fail("secrets paths configuration for mounted volumes is specified and use api is disabled");
+            return false;
+        }
+
+        return true;
+    }
+}
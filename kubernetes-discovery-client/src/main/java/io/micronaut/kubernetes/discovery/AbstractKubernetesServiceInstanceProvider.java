@@ -17,18 +17,25 @@ package io.micronaut.kubernetes.discovery;
 
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.CoreV1EndpointPort;
+import io.kubernetes.client.openapi.models.DiscoveryV1EndpointPort;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.discovery.ServiceInstance;
 import io.micronaut.kubernetes.KubernetesConfiguration;
+import io.micronaut.kubernetes.client.informer.PartialObjectMetadata;
+import io.micronaut.kubernetes.discovery.informer.IndexerComposite;
+import io.micronaut.kubernetes.discovery.informer.IndexerCompositeFactory;
 import io.micronaut.kubernetes.util.KubernetesUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -41,6 +48,31 @@ import java.util.stream.Collectors;
 public abstract class AbstractKubernetesServiceInstanceProvider implements KubernetesServiceInstanceProvider {
 
     public static final String SECURE_LABEL = "secure";
+    /**
+     * The service instance metadata key of the zone the instance runs in.
+     */
+    public static final String ZONE_METADATA = "topology.kubernetes.io/zone";
+    /**
+     * The service instance metadata key of the node the instance runs on.
+     */
+    public static final String NODE_METADATA = "kubernetes.io/hostname";
+    /**
+     * The service instance metadata key of the comma separated zones the instance should be consumed by, as hinted
+     * by the EndpointSlice.
+     */
+    public static final String ZONE_HINTS_METADATA = "discovery.k8s.io/for-zones";
+    /**
+     * The service instance metadata key of the ready condition of the endpoint.
+     */
+    public static final String READY_METADATA = "discovery.k8s.io/ready";
+    /**
+     * The service instance metadata key of the serving condition of the endpoint.
+     */
+    public static final String SERVING_METADATA = "discovery.k8s.io/serving";
+    /**
+     * The service instance metadata key of the terminating condition of the endpoint.
+     */
+    public static final String TERMINATING_METADATA = "discovery.k8s.io/terminating";
     protected static final Logger LOG = LoggerFactory.getLogger(AbstractKubernetesServiceInstanceProvider.class);
 
     /**
@@ -57,6 +89,39 @@ public abstract class AbstractKubernetesServiceInstanceProvider implements Kuber
         );
     }
 
+    /**
+     * Creates the metadata-only informers the service ids are listed from, provided that the
+     * {@link KubernetesConfiguration.KubernetesDiscoveryConfiguration#isWatchServiceIds()} is enabled and this provider
+     * serves the default discovery mode.
+     *
+     * @param indexerCompositeFactory the indexer composite factory, null if the informers are disabled
+     * @param configuration           the kubernetes configuration
+     * @param discoveryConfiguration  the discovery configuration
+     * @param apiType                 type of the resource the service ids are resolved from
+     * @param resourcePlural          resource plural
+     * @param apiGroup                resource api group
+     * @return the indexer composite of the resources metadata or null if the service ids are listed from the API
+     */
+    @Nullable
+    protected IndexerComposite<PartialObjectMetadata> createServiceIdsIndexer(@Nullable IndexerCompositeFactory indexerCompositeFactory,
+                                                                              @Nullable KubernetesConfiguration configuration,
+                                                                              KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration,
+                                                                              Class<? extends KubernetesObject> apiType,
+                                                                              String resourcePlural,
+                                                                              String apiGroup) {
+        if (!discoveryConfiguration.isWatchServiceIds() || !getMode().equalsIgnoreCase(discoveryConfiguration.getMode())) {
+            return null;
+        }
+        if (indexerCompositeFactory == null || configuration == null) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("The service ids are listed from the Kubernetes API as the informers are not available");
+            }
+            return null;
+        }
+        return indexerCompositeFactory.createMetadataInformersFor(apiType, resourcePlural, apiGroup,
+                Collections.singleton(configuration.getNamespace()));
+    }
+
     /**
      * Creates service specific filter based on {@link KubernetesServiceConfiguration}.
      *
@@ -74,6 +139,18 @@ public abstract class AbstractKubernetesServiceInstanceProvider implements Kuber
         return globalFilter;
     }
 
+    /**
+     * Resolves the readiness policy of the service, the service specific policy takes precedence over the
+     * globally configured one.
+     *
+     * @param serviceConfiguration   service configuration
+     * @param discoveryConfiguration discovery configuration
+     * @return the readiness policy
+     */
+    protected static KubernetesConfiguration.KubernetesDiscoveryConfiguration.ReadinessPolicy readinessPolicy(KubernetesServiceConfiguration serviceConfiguration, KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration) {
+        return serviceConfiguration.getReadinessPolicy().orElse(discoveryConfiguration.getReadinessPolicy());
+    }
+
     /**
      * Builds service instance.
      *
@@ -84,6 +161,20 @@ public abstract class AbstractKubernetesServiceInstanceProvider implements Kuber
      * @return service instance
      */
     public static ServiceInstance buildServiceInstance(String serviceId, @Nullable PortBinder servicePort, String address, V1ObjectMeta metadata) {
+        return buildServiceInstance(serviceId, servicePort, address, metadata, Collections.emptyMap());
+    }
+
+    /**
+     * Builds service instance.
+     *
+     * @param serviceId        service id
+     * @param servicePort      servicePort
+     * @param address          address
+     * @param metadata         metadata
+     * @param instanceMetadata instance specific metadata, like the {@link #ZONE_METADATA} or {@link #NODE_METADATA}
+     * @return service instance
+     */
+    public static ServiceInstance buildServiceInstance(String serviceId, @Nullable PortBinder servicePort, String address, V1ObjectMeta metadata, Map<String, String> instanceMetadata) {
         boolean isSecure = (servicePort != null && isPortSecure(servicePort)) || isMetadataSecure(metadata);
         String scheme = isSecure ? "https://" : "http://";
         int portNumber = servicePort != null ? servicePort.getPort() : 80;
@@ -93,10 +184,19 @@ public abstract class AbstractKubernetesServiceInstanceProvider implements Kuber
         }
         return ServiceInstance
                 .builder(serviceId, uri)
-                .metadata(metadata.getLabels())
+                .metadata(mergeMetadata(metadata.getLabels(), instanceMetadata))
                 .build();
     }
 
+    private static Map<String, String> mergeMetadata(@Nullable Map<String, String> labels, Map<String, String> instanceMetadata) {
+        if (instanceMetadata.isEmpty()) {
+            return labels;
+        }
+        Map<String, String> merged = labels == null ? new HashMap<>() : new HashMap<>(labels);
+        merged.putAll(instanceMetadata);
+        return merged;
+    }
+
     /**
      * Attempts to guess whether this port should be connected to using SSL. By default, port numbers ending in 443
      * or port named "https" are considered secure
@@ -161,7 +261,7 @@ public abstract class AbstractKubernetesServiceInstanceProvider implements Kuber
     }
 
     /**
-     * Utility class for transparent access to {@link CoreV1EndpointPort} and {@link V1ServicePort}.
+     * Utility class for transparent access to {@link CoreV1EndpointPort}, {@link DiscoveryV1EndpointPort} and {@link V1ServicePort}.
      */
     public static class PortBinder {
         private final String name;
@@ -199,5 +299,12 @@ public abstract class AbstractKubernetesServiceInstanceProvider implements Kuber
             }
             return new PortBinder(endpointPort.getName(), endpointPort.getPort());
         }
+
+        public static PortBinder fromEndpointSlicePort(@Nullable DiscoveryV1EndpointPort endpointPort) {
+            if (endpointPort == null || endpointPort.getPort() == null) {
+                return null;
+            }
+            return new PortBinder(endpointPort.getName(), endpointPort.getPort());
+        }
     }
 }
@@ -18,6 +18,7 @@ package io.micronaut.kubernetes.discovery;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.env.Environment;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.discovery.DiscoveryClient;
@@ -58,6 +59,7 @@ public class KubernetesDiscoveryClient implements DiscoveryClient {
     private final Map<String, KubernetesServiceConfiguration> serviceConfigurations;
     private final Map<String, KubernetesServiceInstanceProvider> instanceProviders;
     private final KubernetesServiceInstanceList instanceList;
+    private final ServiceInstanceTopologySorter topologySorter;
 
     /**
      * Creates discovery client that supports the discovery modes.
@@ -69,13 +71,36 @@ public class KubernetesDiscoveryClient implements DiscoveryClient {
      * @param instanceProviders      The service instance provider implementations
      * @param instanceList           The {@link KubernetesServiceInstanceList}
      */
-    @Inject
+    @Deprecated
     public KubernetesDiscoveryClient(CoreV1ApiReactorClient client,
                                      KubernetesConfiguration configuration,
                                      KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration,
                                      List<KubernetesServiceConfiguration> serviceConfigurations,
                                      List<KubernetesServiceInstanceProvider> instanceProviders,
                                      KubernetesServiceInstanceList instanceList) {
+        this(client, configuration, discoveryConfiguration, serviceConfigurations, instanceProviders, instanceList, null);
+    }
+
+    /**
+     * Creates discovery client that supports the discovery modes.
+     *
+     * @param client                 An HTTP Client to query the Kubernetes API.
+     * @param configuration          The configuration properties
+     * @param discoveryConfiguration The discovery configuration properties
+     * @param serviceConfigurations  The manual service discovery configurations
+     * @param instanceProviders      The service instance provider implementations
+     * @param instanceList           The {@link KubernetesServiceInstanceList}
+     * @param topologySorter         The {@link ServiceInstanceTopologySorter}
+     * @since 6.2
+     */
+    @Inject
+    public KubernetesDiscoveryClient(CoreV1ApiReactorClient client,
+                                     KubernetesConfiguration configuration,
+                                     KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration,
+                                     List<KubernetesServiceConfiguration> serviceConfigurations,
+                                     List<KubernetesServiceInstanceProvider> instanceProviders,
+                                     KubernetesServiceInstanceList instanceList,
+                                     @Nullable ServiceInstanceTopologySorter topologySorter) {
         this.client = client;
         this.configuration = configuration;
         this.discoveryConfiguration = discoveryConfiguration;
@@ -84,6 +109,7 @@ public class KubernetesDiscoveryClient implements DiscoveryClient {
         this.instanceProviders = instanceProviders.stream()
                 .collect(Collectors.toMap(KubernetesServiceInstanceProvider::getMode, Function.identity()));
         this.instanceList = instanceList;
+        this.topologySorter = topologySorter;
     }
 
     @Override
@@ -120,7 +146,11 @@ public class KubernetesDiscoveryClient implements DiscoveryClient {
                 }
                 return Publishers.just(Collections.emptyList());
             } else {
-                return instanceProviders.get(mode).getInstances(serviceConfiguration);
+                Publisher<List<ServiceInstance>> instances = instanceProviders.get(mode).getInstances(serviceConfiguration);
+                if (topologySorter != null) {
+                    return topologySorter.apply(instances);
+                }
+                return instances;
             }
         }
     }
@@ -39,6 +39,7 @@ public class KubernetesServiceConfiguration {
     private String namespace;
     private String mode;
     private String port;
+    private KubernetesConfiguration.KubernetesDiscoveryConfiguration.ReadinessPolicy readinessPolicy;
     private final boolean manual;
 
     @Inject
@@ -147,6 +148,24 @@ public class KubernetesServiceConfiguration {
         this.port = port;
     }
 
+    /**
+     * Readiness policy of the service endpoints. If empty then the globally configured readiness policy is used.
+     *
+     * @return the readiness policy
+     */
+    public Optional<KubernetesConfiguration.KubernetesDiscoveryConfiguration.ReadinessPolicy> getReadinessPolicy() {
+        return Optional.ofNullable(readinessPolicy);
+    }
+
+    /**
+     * Sets the readiness policy of the service endpoints.
+     *
+     * @param readinessPolicy the readiness policy
+     */
+    public void setReadinessPolicy(KubernetesConfiguration.KubernetesDiscoveryConfiguration.ReadinessPolicy readinessPolicy) {
+        this.readinessPolicy = readinessPolicy;
+    }
+
     /**
      * This field is for inner use to mark manually configured services. All configurations
      * on {@link #PREFIX} are manually configured.
@@ -165,6 +184,7 @@ public class KubernetesServiceConfiguration {
                 ", namespace='" + namespace + '\'' +
                 ", mode='" + mode + '\'' +
                 ", port='" + port + '\'' +
+                ", readinessPolicy=" + readinessPolicy +
                 ", manual=" + manual +
                 '}';
     }
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.discovery;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Node;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.env.Environment;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.kubernetes.KubernetesConfiguration;
+import io.micronaut.kubernetes.client.PodNameResolver;
+import io.micronaut.kubernetes.client.reactor.CoreV1ApiReactorClient;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static io.micronaut.kubernetes.discovery.AbstractKubernetesServiceInstanceProvider.NODE_METADATA;
+import static io.micronaut.kubernetes.discovery.AbstractKubernetesServiceInstanceProvider.ZONE_HINTS_METADATA;
+import static io.micronaut.kubernetes.discovery.AbstractKubernetesServiceInstanceProvider.ZONE_METADATA;
+
+/**
+ * Orders or filters the discovered service instances by the zone of the application according to the configured
+ * {@link KubernetesConfiguration.KubernetesDiscoveryConfiguration.TopologyMode}. The zone of the instance is taken from
+ * the EndpointSlice hints or zone, otherwise it is resolved from the labels of the node the instance runs on.
+ *
+ * @since 6.2
+ */
+@Internal
+@Singleton
+@Requires(env = Environment.KUBERNETES)
+public class ServiceInstanceTopologySorter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ServiceInstanceTopologySorter.class);
+    private static final long LOCAL_ZONE_RETRY_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+    private static final long NODE_ZONE_RETRY_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+    private static final long NODE_ZONE_EXPIRY = TimeUnit.MINUTES.toMillis(10);
+
+    private final CoreV1ApiReactorClient client;
+    private final KubernetesConfiguration configuration;
+    private final PodNameResolver podNameResolver;
+    private final Map<String, NodeZone> nodeZones = new ConcurrentHashMap<>();
+    private final Map<String, Long> nodeZoneRetryAt = new ConcurrentHashMap<>();
+    private volatile String localZone;
+    private volatile long localZoneRetryAt;
+    private volatile long nodeZonesEvictAt;
+
+    /**
+     * Creates the service instance topology sorter.
+     *
+     * @param client          the client
+     * @param configuration   the configuration
+     * @param podNameResolver the pod name resolver
+     */
+    public ServiceInstanceTopologySorter(CoreV1ApiReactorClient client,
+                                         KubernetesConfiguration configuration,
+                                         PodNameResolver podNameResolver) {
+        this.client = client;
+        this.configuration = configuration;
+        this.podNameResolver = podNameResolver;
+    }
+
+    /**
+     * Applies the configured topology mode on the service instances.
+     *
+     * @param instances the service instances
+     * @return the ordered or filtered service instances
+     */
+    public Publisher<List<ServiceInstance>> apply(@NonNull Publisher<List<ServiceInstance>> instances) {
+        KubernetesConfiguration.KubernetesDiscoveryConfiguration.TopologyMode mode = configuration.getDiscovery().getTopologyMode();
+        if (mode == KubernetesConfiguration.KubernetesDiscoveryConfiguration.TopologyMode.DISABLED) {
+            return instances;
+        }
+        return Flux.from(instances).concatMap(list -> {
+            if (list.isEmpty()) {
+                return Mono.just(list);
+            }
+            return resolveLocalZone()
+                    .flatMap(zone -> resolveInstanceZones(list).map(zones -> apply(mode, zone, list, zones)))
+                    .defaultIfEmpty(list);
+        });
+    }
+
+    private static List<ServiceInstance> apply(KubernetesConfiguration.KubernetesDiscoveryConfiguration.TopologyMode mode,
+                                               String localZone,
+                                               List<ServiceInstance> instances,
+                                               Map<ServiceInstance, String> instanceZones) {
+        List<ServiceInstance> local = new ArrayList<>(instances.size());
+        List<ServiceInstance> remote = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            if (isLocal(instance, localZone, instanceZones.get(instance))) {
+                local.add(instance);
+            } else {
+                remote.add(instance);
+            }
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Found {} of {} service instances in the zone {}", local.size(), instances.size(), localZone);
+        }
+        if (local.isEmpty() || remote.isEmpty()) {
+            return instances;
+        }
+        if (mode == KubernetesConfiguration.KubernetesDiscoveryConfiguration.TopologyMode.FILTER) {
+            return local;
+        }
+        local.addAll(remote);
+        return local;
+    }
+
+    private static boolean isLocal(ServiceInstance instance, String localZone, @Nullable String instanceZone) {
+        Optional<String> hints = instance.getMetadata().get(ZONE_HINTS_METADATA, String.class);
+        if (hints.isPresent()) {
+            return Arrays.asList(hints.get().split(",")).contains(localZone);
+        }
+        return localZone.equals(instanceZone);
+    }
+
+    private Mono<Map<ServiceInstance, String>> resolveInstanceZones(List<ServiceInstance> instances) {
+        long now = System.currentTimeMillis();
+        if (nodeZonesEvictAt <= now) {
+            nodeZonesEvictAt = now + NODE_ZONE_EXPIRY;
+            evictNodeZones(now - NODE_ZONE_EXPIRY);
+        }
+        Map<ServiceInstance, String> zones = new HashMap<>();
+        List<String> unresolvedNodes = new ArrayList<>();
+        for (ServiceInstance instance : instances) {
+            Optional<String> zone = instance.getMetadata().get(ZONE_METADATA, String.class);
+            if (zone.isPresent()) {
+                zones.put(instance, zone.get());
+                continue;
+            }
+            Optional<String> node = instance.getMetadata().get(NODE_METADATA, String.class);
+            if (node.isPresent()) {
+                NodeZone nodeZone = nodeZones.get(node.get());
+                if (nodeZone != null) {
+                    nodeZone.lastSeen = now;
+                    zones.put(instance, nodeZone.zone);
+                } else {
+                    unresolvedNodes.add(node.get());
+                }
+            }
+        }
+        if (unresolvedNodes.isEmpty()) {
+            return Mono.just(zones);
+        }
+        return Flux.fromIterable(unresolvedNodes)
+                .distinct()
+                .flatMap(this::resolveNodeZone)
+                .then(Mono.fromCallable(() -> {
+                    for (ServiceInstance instance : instances) {
+                        if (!zones.containsKey(instance)) {
+                            instance.getMetadata().get(NODE_METADATA, String.class)
+                                    .map(nodeZones::get)
+                                    .ifPresent(nodeZone -> zones.put(instance, nodeZone.zone));
+                        }
+                    }
+                    return zones;
+                }));
+    }
+
+    private Mono<String> resolveLocalZone() {
+        Optional<String> configuredZone = configuration.getDiscovery().getZone();
+        if (configuredZone.isPresent()) {
+            return Mono.just(configuredZone.get());
+        }
+        if (localZone != null) {
+            return Mono.just(localZone);
+        }
+        if (localZoneRetryAt > System.currentTimeMillis()) {
+            return Mono.empty();
+        }
+        // the failed resolution is not retried on every discovery request
+        localZoneRetryAt = System.currentTimeMillis() + LOCAL_ZONE_RETRY_INTERVAL;
+        Optional<String> podName = podNameResolver.getPodName();
+        if (!podName.isPresent()) {
+            return Mono.empty();
+        }
+        return client.readNamespacedPod(podName.get(), configuration.getNamespace(), null)
+                .mapNotNull(pod -> pod.getSpec() == null ? null : pod.getSpec().getNodeName())
+                .flatMap(this::resolveNodeZone)
+                .filter(StringUtils::isNotEmpty)
+                .doOnNext(zone -> {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Resolved the zone of the application to {}", zone);
+                    }
+                    localZone = zone;
+                })
+                .onErrorResume(throwable -> {
+                    if (LOG.isWarnEnabled()) {
+                        LOG.warn("Failed to resolve the zone of the Pod [" + podName.get() + "], configure it by " +
+                                "the `" + KubernetesConfiguration.KubernetesDiscoveryConfiguration.PREFIX + ".zone`: " +
+                                responseBodyOrMessage(throwable));
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<String> resolveNodeZone(String nodeName) {
+        NodeZone nodeZone = nodeZones.get(nodeName);
+        if (nodeZone != null) {
+            return Mono.just(nodeZone.zone);
+        }
+        Long retryAt = nodeZoneRetryAt.get(nodeName);
+        if (retryAt != null && retryAt > System.currentTimeMillis()) {
+            return Mono.just("");
+        }
+        // the node without zone is remembered as well, so it isn't read on every discovery request, while the failed
+        // read is retried after the interval, so that the transient failure doesn't disable the topology for the node
+        return client.readNode(nodeName, null)
+                .map(node -> Optional.ofNullable(zoneOrNull(node)).orElse(""))
+                .doOnNext(zone -> {
+                    nodeZones.put(nodeName, new NodeZone(zone));
+                    nodeZoneRetryAt.remove(nodeName);
+                })
+                .onErrorResume(throwable -> {
+                    nodeZoneRetryAt.put(nodeName, System.currentTimeMillis() + NODE_ZONE_RETRY_INTERVAL);
+                    if (LOG.isWarnEnabled()) {
+                        LOG.warn("Failed to resolve the zone of the Node [" + nodeName + "], retrying in " +
+                                TimeUnit.MILLISECONDS.toSeconds(NODE_ZONE_RETRY_INTERVAL) + "s: " + responseBodyOrMessage(throwable));
+                    }
+                    return Mono.just("");
+                });
+    }
+
+    /**
+     * Evicts the zones of the nodes the discovered service instances no longer run on.
+     *
+     * @param seenBefore the time the nodes were last seen before
+     */
+    void evictNodeZones(long seenBefore) {
+        nodeZones.values().removeIf(nodeZone -> nodeZone.lastSeen < seenBefore);
+        nodeZoneRetryAt.values().removeIf(retryAt -> retryAt < seenBefore);
+    }
+
+    @Nullable
+    private static String zoneOrNull(V1Node node) {
+        // the zone metadata key is the well-known zone label of the node
+        if (node.getMetadata() == null) {
+            return null;
+        }
+        return Optional.ofNullable(node.getMetadata().getLabels())
+                .orElse(Collections.emptyMap())
+                .get(ZONE_METADATA);
+    }
+
+    private static String responseBodyOrMessage(Throwable throwable) {
+        if (throwable instanceof ApiException) {
+            return ((ApiException) throwable).getResponseBody();
+        }
+        return Objects.toString(throwable.getMessage());
+    }
+
+    /**
+     * The zone of the node.
+     */
+    private static final class NodeZone {
+        private final String zone;
+        private volatile long lastSeen = System.currentTimeMillis();
+
+        private NodeZone(String zone) {
+            this.zone = zone;
+        }
+    }
+}
@@ -16,9 +16,16 @@
 package io.micronaut.kubernetes.discovery.informer;
 
 import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.cache.Caches;
 import io.kubernetes.client.informer.cache.Indexer;
+import io.kubernetes.client.util.Namespaces;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.kubernetes.client.informer.InformerIndexer;
 import org.apache.commons.collections4.map.HashedMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,9 +33,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * The {@link io.kubernetes.client.informer.cache.Indexer} composite for the given {@code ApiType} that provides
@@ -44,6 +52,9 @@ public class IndexerComposite<ApiType extends KubernetesObject> {
     private static final Logger LOG = LoggerFactory.getLogger(IndexerComposite.class);
 
     private final Map<String, Indexer<ApiType>> informerMap = Collections.synchronizedMap(new HashedMap<>());
+    private final List<SharedIndexInformer<ApiType>> informers = new CopyOnWriteArrayList<>();
+    private volatile CompletableFuture<Void> synced = CompletableFuture.completedFuture(null);
+    private volatile CompletableFuture<Void> awaited = CompletableFuture.completedFuture(null);
 
     /**
      * Add {@link Indexer} to the composite.
@@ -55,6 +66,63 @@ public class IndexerComposite<ApiType extends KubernetesObject> {
         informerMap.put(namespace, sharedIndexInformer);
     }
 
+    /**
+     * Add {@link SharedIndexInformer} to the composite.
+     *
+     * @param namespace namespace of informer
+     * @param sharedIndexInformer informer
+     */
+    protected void add(String namespace, SharedIndexInformer<ApiType> sharedIndexInformer) {
+        add(namespace, sharedIndexInformer.getIndexer());
+        // the informer watching all namespaces is shared by the namespaces it keeps the resources of
+        if (informers.stream().noneMatch(informer -> informer == sharedIndexInformer)) {
+            informers.add(sharedIndexInformer);
+        }
+    }
+
+    /**
+     * Set the future completed once the {@link SharedIndexInformer}s of the composite synced up.
+     *
+     * @param synced the future completed once the informers synced up
+     * @since 6.2
+     */
+    protected void setSynced(@NonNull CompletableFuture<Void> synced) {
+        this.synced = synced;
+    }
+
+    /**
+     * Set the future the lookups of the resources wait for, e.g. until the {@link SharedIndexInformer}s of the
+     * composite synced up or the wait for them timed out. The lookups don't block any thread while waiting.
+     *
+     * @param awaited the future the lookups of the resources wait for
+     * @since 6.2
+     */
+    protected void setAwaited(@NonNull CompletableFuture<Void> awaited) {
+        this.awaited = awaited;
+    }
+
+    /**
+     * Whether the {@link SharedIndexInformer}s of the composite synced up, i.e. the resources of the composite are
+     * complete.
+     *
+     * @return true if the informers synced up
+     * @since 6.2
+     */
+    public boolean isSynced() {
+        return synced.isDone() && !synced.isCompletedExceptionally();
+    }
+
+    /**
+     * Add the {@link ResourceEventHandler} to all {@link SharedIndexInformer}s of the composite.
+     *
+     * @param handler resource event handler
+     */
+    public void addEventHandler(@NonNull ResourceEventHandler<ApiType> handler) {
+        for (SharedIndexInformer<ApiType> informer : informers) {
+            informer.addEventHandler(handler);
+        }
+    }
+
     /**
      * Get resource from the {@link io.kubernetes.client.informer.cache.Indexer}.
      *
@@ -63,6 +131,9 @@ public class IndexerComposite<ApiType extends KubernetesObject> {
      * @return mono with the resource or empty mono
      */
     public Mono<ApiType> getResource(@NonNull String name, @NonNull String namespace) {
+        if (!awaited.isDone()) {
+            return whenAwaited().then(Mono.defer(() -> getResource(name, namespace)));
+        }
         Indexer<ApiType> indexer = informerMap.getOrDefault(namespace, null);
         if (indexer == null) {
             if (LOG.isTraceEnabled()) {
@@ -70,14 +141,28 @@ public class IndexerComposite<ApiType extends KubernetesObject> {
             }
             return Mono.empty();
         }
-        Optional<ApiType> resources = indexer.list().stream().filter(e -> {
-            if (e.getMetadata() != null) {
-                return Objects.equals(e.getMetadata().getName(), name);
-            }
-            return false;
-        }).findFirst();
+        return Mono.justOrEmpty(indexer.getByKey(resourceKey(name, namespace)));
+    }
 
-        return resources.map(Mono::just).orElseGet(Mono::empty);
+    private Mono<Void> whenAwaited() {
+        // the copy is cancelled with the lookup, the other lookups keep waiting
+        return Mono.fromFuture(awaited.copy()).onErrorResume(e -> Mono.empty());
+    }
+
+    /**
+     * Resolves the {@link io.kubernetes.client.informer.cache.Store} key of the resource. Mirrors the
+     * {@link io.kubernetes.client.informer.cache.Caches#metaNamespaceKeyFunc(KubernetesObject)} that is used as the key
+     * function of the informer caches, so the resource can be retrieved directly without scanning the store.
+     *
+     * @param name      resource name
+     * @param namespace resource namespace
+     * @return the store key
+     */
+    static String resourceKey(@NonNull String name, @Nullable String namespace) {
+        if (StringUtils.isEmpty(namespace)) {
+            return name;
+        }
+        return namespace + "/" + name;
     }
 
     /**
@@ -87,6 +172,9 @@ public class IndexerComposite<ApiType extends KubernetesObject> {
      * @return mono with resources or empty mono
      */
     public Flux<ApiType> getResources(@NonNull String namespace) {
+        if (!awaited.isDone()) {
+            return whenAwaited().thenMany(Flux.defer(() -> getResources(namespace)));
+        }
 
         Indexer<ApiType> indexed = informerMap.getOrDefault(namespace, null);
         if (indexed == null) {
@@ -96,6 +184,52 @@ public class IndexerComposite<ApiType extends KubernetesObject> {
             return Flux.empty();
         }
 
-        return Flux.fromIterable(indexed.list());
+        return Flux.fromIterable(namespaceResources(indexed, namespace));
+    }
+
+    /**
+     * Lists the resources of the namespace, the indexer may be shared by several namespaces when a single informer
+     * watches all of them.
+     */
+    private static <ApiType extends KubernetesObject> List<ApiType> namespaceResources(Indexer<ApiType> indexer, String namespace) {
+        if (Namespaces.NAMESPACE_ALL.equals(namespace) || !indexer.getIndexers().containsKey(Caches.NAMESPACE_INDEX)) {
+            return indexer.list();
+        }
+        return indexer.byIndex(Caches.NAMESPACE_INDEX, namespace);
+    }
+
+    /**
+     * Get the resources indexed by the given value from the {@link io.kubernetes.client.informer.cache.Indexer} for
+     * given {@code namespace}. When the index isn't registered to the cache, the resources are filtered by the index
+     * function instead.
+     *
+     * @param namespace    namespace name
+     * @param indexer      the indexer of the resources
+     * @param indexedValue the indexed value
+     * @return flux with the indexed resources
+     * @since 6.2
+     */
+    public Flux<ApiType> getResources(@NonNull String namespace, @NonNull InformerIndexer<ApiType> indexer, @NonNull String indexedValue) {
+        if (!awaited.isDone()) {
+            return whenAwaited().thenMany(Flux.defer(() -> getResources(namespace, indexer, indexedValue)));
+        }
+        Indexer<ApiType> indexed = informerMap.getOrDefault(namespace, null);
+        if (indexed == null) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Failed to find resources for namespace {}, indexer null", namespace);
+            }
+            return Flux.empty();
+        }
+
+        if (indexed.getIndexers().containsKey(indexer.getName())) {
+            return Flux.fromIterable(indexed.byIndex(indexer.getName(), indexedValue))
+                    .filter(resource -> Namespaces.NAMESPACE_ALL.equals(namespace)
+                            || resource.getMetadata() == null || namespace.equals(resource.getMetadata().getNamespace()));
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Index {} isn't registered in namespace {}, filtering the resources", indexer.getName(), namespace);
+        }
+        return Flux.fromIterable(namespaceResources(indexed, namespace))
+                .filter(resource -> indexer.index(resource).contains(indexedValue));
     }
 }
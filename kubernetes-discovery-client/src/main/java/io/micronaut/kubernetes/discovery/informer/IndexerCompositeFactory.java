@@ -18,14 +18,23 @@ package io.micronaut.kubernetes.discovery.informer;
 import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.informer.SharedIndexInformer;
-import io.kubernetes.client.informer.cache.Indexer;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.kubernetes.client.informer.InformerConfiguration;
+import io.micronaut.kubernetes.client.informer.PartialObjectMetadata;
 import io.micronaut.kubernetes.client.informer.SharedIndexInformerFactory;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Factory for {@link IndexerComposite}.
@@ -35,18 +44,44 @@ import java.util.Set;
  */
 @Internal
 @Singleton
+@Requires(bean = SharedIndexInformerFactory.class)
 public class IndexerCompositeFactory {
 
     private static final Logger LOG = LoggerFactory.getLogger(IndexerCompositeFactory.class);
 
+    private static final Duration DEFAULT_SYNC_TIMEOUT = Duration.ofSeconds(60);
+
     private final SharedIndexInformerFactory sharedIndexInformerFactory;
+    private final Duration syncTimeout;
 
+    /**
+     * Creates the indexer composite factory.
+     *
+     * @param sharedIndexInformerFactory informer factory
+     * @deprecated Use new version {@link IndexerCompositeFactory#IndexerCompositeFactory(SharedIndexInformerFactory, InformerConfiguration)}
+     */
+    @Deprecated
     public IndexerCompositeFactory(SharedIndexInformerFactory sharedIndexInformerFactory) {
+        this(sharedIndexInformerFactory, null);
+    }
+
+    /**
+     * Creates the indexer composite factory.
+     *
+     * @param sharedIndexInformerFactory informer factory
+     * @param informerConfiguration      informer configuration, its sync timeout bounds the wait of the resource
+     *                                   lookups for the informers to sync up
+     * @since 6.2
+     */
+    @Inject
+    public IndexerCompositeFactory(SharedIndexInformerFactory sharedIndexInformerFactory,
+                                   @Nullable InformerConfiguration informerConfiguration) {
         this.sharedIndexInformerFactory = sharedIndexInformerFactory;
+        this.syncTimeout = informerConfiguration != null ? Duration.ofSeconds(informerConfiguration.getSyncTimeout()) : DEFAULT_SYNC_TIMEOUT;
     }
 
     /**
-     * Creates the {@link IndexerComposite} that is populated by generated {@link SharedIndexInformer}'s {@link Indexer}.
+     * Creates the {@link IndexerComposite} that is populated by generated {@link SharedIndexInformer}s.
      *
      * @param apiType        informer type
      * @param apiListType    informer list type
@@ -55,30 +90,117 @@ public class IndexerCompositeFactory {
      * @param <ApiType>      type of composite
      * @return indexer composite
      */
+    public <ApiType extends KubernetesObject> IndexerComposite<ApiType> createInformersFor(
+            Class<ApiType> apiType,
+            Class<? extends KubernetesListObject> apiListType,
+            String resourcePlural,
+            Set<String> namespaces) {
+        return createInformersFor(apiType, apiListType, resourcePlural, "", namespaces);
+    }
+
+    /**
+     * Creates the {@link IndexerComposite} that is populated by generated {@link SharedIndexInformer}s. The informers
+     * are not waited for to sync up, the lookups of the composite resources wait for them instead, at most for
+     * the informer sync timeout.
+     *
+     * @param apiType        informer type
+     * @param apiListType    informer list type
+     * @param resourcePlural informer plural
+     * @param apiGroup       informer api group
+     * @param namespaces     namespaces to create {@link SharedIndexInformer}s
+     * @param <ApiType>      type of composite
+     * @return indexer composite
+     */
     @SuppressWarnings("unchecked")
     public <ApiType extends KubernetesObject> IndexerComposite<ApiType> createInformersFor(
             Class<ApiType> apiType,
             Class<? extends KubernetesListObject> apiListType,
             String resourcePlural,
+            String apiGroup,
             Set<String> namespaces) {
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Going to create Informers of type {} in the namespaces: {}", apiType, namespaces);
         }
 
+        // the informers of all the namespaces are started and synced up together
+        List<SharedIndexInformer<? extends KubernetesObject>> informers = sharedIndexInformerFactory.sharedIndexInformersFor(
+                apiType,
+                apiListType,
+                resourcePlural,
+                apiGroup,
+                new ArrayList<>(namespaces),
+                null,
+                null,
+                false);
+
+        // a single informer may keep the resources of all the namespaces
         IndexerComposite<ApiType> indexerComposite = new IndexerComposite<>();
         for (String namespace : namespaces) {
-            SharedIndexInformer<? extends KubernetesObject> informer = sharedIndexInformerFactory.sharedIndexInformerFor(
+            indexerComposite.add(namespace, sharedIndexInformerFactory.getExistingSharedIndexInformer(namespace, apiType));
+        }
+        CompletableFuture<Void> synced = sharedIndexInformerFactory.whenSynced(informers);
+        indexerComposite.setSynced(synced);
+        indexerComposite.setAwaited(awaited(synced, apiType, namespaces));
+
+        return indexerComposite;
+    }
+
+    /**
+     * The future completed once the informers synced up or the sync timeout elapsed, then the resources are looked up
+     * in the informer caches even if they are not complete.
+     */
+    private CompletableFuture<Void> awaited(CompletableFuture<Void> synced, Class<?> apiType, Set<String> namespaces) {
+        return synced.copy()
+                .exceptionally(e -> null)
+                .completeOnTimeout(null, syncTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, e) -> {
+                    if (!synced.isDone() && LOG.isWarnEnabled()) {
+                        LOG.warn("Informers of type {} in the namespaces {} didn't sync up in {} seconds, the resources " +
+                                "are looked up in the incomplete caches. Consider to raise the sync up timeout " +
+                                "`kubernetes.client.informer.sync-timeout`", apiType, namespaces, syncTimeout.toSeconds());
+                    }
+                });
+    }
+
+    /**
+     * Creates the {@link IndexerComposite} that is populated by generated metadata-only {@link SharedIndexInformer}s.
+     * The informers are not waited for to sync up, see {@link IndexerComposite#isSynced()}.
+     *
+     * @param apiType        type of the resource
+     * @param resourcePlural resource plural
+     * @param apiGroup       resource api group
+     * @param namespaces     namespaces to create {@link SharedIndexInformer}s
+     * @return indexer composite of the resources metadata
+     * @since 6.2
+     */
+    public IndexerComposite<PartialObjectMetadata> createMetadataInformersFor(
+            Class<? extends KubernetesObject> apiType,
+            String resourcePlural,
+            String apiGroup,
+            Set<String> namespaces) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Going to create metadata Informers of type {} in the namespaces: {}", apiType, namespaces);
+        }
+
+        // the metadata informers aren't awaited, the composite reports when they synced up
+        IndexerComposite<PartialObjectMetadata> indexerComposite = new IndexerComposite<>();
+        List<SharedIndexInformer<PartialObjectMetadata>> informers = new ArrayList<>(namespaces.size());
+        for (String namespace : namespaces) {
+            SharedIndexInformer<PartialObjectMetadata> informer = sharedIndexInformerFactory.metadataInformerFor(
                     apiType,
-                    apiListType,
                     resourcePlural,
-                    "",
+                    apiGroup,
                     namespace,
                     null,
                     null,
-                    true);
-            indexerComposite.add(namespace, (Indexer<ApiType>) informer.getIndexer());
+                    null,
+                    false);
+            indexerComposite.add(namespace, informer);
+            informers.add(informer);
         }
+        indexerComposite.setSynced(sharedIndexInformerFactory.whenSynced(informers));
 
         return indexerComposite;
     }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.discovery.informer;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.kubernetes.discovery.KubernetesServiceConfiguration;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the computed {@link ServiceInstance} lists for the resources that are watched by the informer. The cached
+ * instances are evicted once the backing resource is added, updated or deleted, so the instances are computed again
+ * only after the resource has changed.
+ *
+ * @param <ApiType> api type of the watched resource
+ * @since 6.2
+ */
+@Internal
+public class ServiceInstanceCache<ApiType extends KubernetesObject> implements ResourceEventHandler<ApiType> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ServiceInstanceCache.class);
+
+    private final Map<String, Map<String, List<List<ServiceInstance>>>> instances = new ConcurrentHashMap<>();
+    private final Function<ApiType, String> serviceNameResolver;
+
+    /**
+     * Creates the cache for resources named after the service they belong to.
+     */
+    public ServiceInstanceCache() {
+        this(obj -> obj.getMetadata().getName());
+    }
+
+    /**
+     * Creates the cache for resources that resolve the name of the service they belong to by given function.
+     *
+     * @param serviceNameResolver function that resolves the service name of the resource
+     */
+    public ServiceInstanceCache(@NonNull Function<ApiType, String> serviceNameResolver) {
+        this.serviceNameResolver = serviceNameResolver;
+    }
+
+    /**
+     * Get the service instances from the cache or compute them by using the {@code loader} if not cached yet.
+     *
+     * @param serviceConfiguration service configuration
+     * @param loader               supplier of the publisher that computes the service instances
+     * @return publisher with the service instances
+     */
+    public Publisher<List<ServiceInstance>> getInstances(@NonNull KubernetesServiceConfiguration serviceConfiguration,
+                                                         @NonNull Supplier<Publisher<List<ServiceInstance>>> loader) {
+        Optional<String> name = serviceConfiguration.getName();
+        Optional<String> namespace = serviceConfiguration.getNamespace();
+        if (!name.isPresent() || !namespace.isPresent()) {
+            return loader.get();
+        }
+
+        // the instances are stored in the resource map captured here, if the resource changes meanwhile the map
+        // is evicted and the instances computed from the stale resource are not visible to the subsequent calls
+        Map<String, List<List<ServiceInstance>>> resourceInstances = instances.computeIfAbsent(
+                IndexerComposite.resourceKey(name.get(), namespace.get()), key -> new ConcurrentHashMap<>());
+        String serviceId = serviceConfiguration.getServiceId();
+        List<List<ServiceInstance>> cached = resourceInstances.get(serviceId);
+        if (cached != null) {
+            return Flux.fromIterable(cached);
+        }
+
+        return Flux.from(loader.get())
+                .map(Collections::unmodifiableList)
+                .collectList()
+                .doOnNext(computed -> resourceInstances.put(serviceId, Collections.unmodifiableList(new ArrayList<>(computed))))
+                .flatMapIterable(Function.identity());
+    }
+
+    @Override
+    public void onAdd(ApiType obj) {
+        evict(obj);
+    }
+
+    @Override
+    public void onUpdate(ApiType oldObj, ApiType newObj) {
+        if (oldObj != null && oldObj.getMetadata() != null && newObj.getMetadata() != null &&
+                newObj.getMetadata().getResourceVersion() != null &&
+                Objects.equals(oldObj.getMetadata().getResourceVersion(), newObj.getMetadata().getResourceVersion())) {
+            // periodic resync, the resource didn't change
+            return;
+        }
+        evict(oldObj);
+        evict(newObj);
+    }
+
+    @Override
+    public void onDelete(ApiType obj, boolean deletedFinalStateUnknown) {
+        evict(obj);
+    }
+
+    private void evict(ApiType obj) {
+        if (obj == null || obj.getMetadata() == null) {
+            return;
+        }
+        String serviceName = serviceNameResolver.apply(obj);
+        if (serviceName == null) {
+            return;
+        }
+        String key = IndexerComposite.resourceKey(serviceName, obj.getMetadata().getNamespace());
+        if (instances.remove(key) != null && LOG.isTraceEnabled()) {
+            LOG.trace("Evicted cached service instances of resource {}", key);
+        }
+    }
+}
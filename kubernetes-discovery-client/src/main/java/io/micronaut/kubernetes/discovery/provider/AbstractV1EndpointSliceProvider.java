@@ -0,0 +1,243 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.discovery.provider;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1Endpoint;
+import io.kubernetes.client.openapi.models.V1EndpointSlice;
+import io.kubernetes.client.openapi.models.V1ForZone;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.kubernetes.KubernetesConfiguration;
+import io.micronaut.kubernetes.discovery.AbstractKubernetesServiceInstanceProvider;
+import io.micronaut.kubernetes.discovery.KubernetesServiceConfiguration;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Service instance provider uses Kubernetes EndpointSlices as source of service discovery.
+ *
+ * @since 6.2
+ */
+public abstract class AbstractV1EndpointSliceProvider extends AbstractKubernetesServiceInstanceProvider {
+    public static final String MODE = "endpointslice";
+    public static final String SERVICE_NAME_LABEL = "kubernetes.io/service-name";
+    protected static final Logger LOG = LoggerFactory.getLogger(AbstractV1EndpointSliceProvider.class);
+
+    private static final String ADDRESS_TYPE_IPV6 = "IPv6";
+
+    private final KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration;
+
+    public AbstractV1EndpointSliceProvider(KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration) {
+        this.discoveryConfiguration = discoveryConfiguration;
+    }
+
+    @Override
+    public String getMode() {
+        return MODE;
+    }
+
+    @Override
+    public Publisher<String> getServiceIds(String namespace) {
+        return serviceIds(listEndpointSlices(namespace));
+    }
+
+    /**
+     * Resolves the ids of the services whose endpoint slices match the discovery filters.
+     *
+     * @param slices the endpoint slices or their metadata
+     * @return the service ids
+     */
+    protected Flux<String> serviceIds(Flux<? extends KubernetesObject> slices) {
+        Predicate<KubernetesObject> filter = discoveryConfigurationFilter(discoveryConfiguration);
+        return slices
+                .filter(slice -> filter.test(asServiceObject(slice)))
+                .mapNotNull(slice -> serviceNameOrNull(slice.getMetadata()))
+                .distinct();
+    }
+
+    @Override
+    public Publisher<List<ServiceInstance>> getInstances(KubernetesServiceConfiguration serviceConfiguration) {
+        String serviceName = serviceConfiguration.getName().orElseThrow(
+                () -> new IllegalArgumentException("KubernetesServiceConfiguration is missing service name."));
+        String serviceNamespace = serviceConfiguration.getNamespace().orElseThrow(
+                () -> new IllegalArgumentException("KubernetesServiceConfiguration is missing namespace."));
+
+        Predicate<KubernetesObject> filter = serviceConfigurationDiscoveryFilter(serviceConfiguration, discoveryConfiguration);
+
+        return getEndpointSlices(serviceName, serviceNamespace)
+                .filter(slice -> filter.test(asServiceObject(slice)))
+                .filter(slice ->
+                        hasValidPortConfiguration(Optional.ofNullable(slice.getPorts()).orElse(new ArrayList<>()).stream().map(PortBinder::fromEndpointSlicePort).filter(Objects::nonNull).collect(Collectors.toList()), serviceConfiguration))
+                .collectList()
+                .map(slices -> buildServiceInstances(serviceConfiguration, readinessPolicy(serviceConfiguration, discoveryConfiguration), slices))
+                .onErrorResume(throwable -> {
+                    if (LOG.isErrorEnabled()) {
+                        LOG.error("Error while processing discovered endpoint slices [" + serviceName + "]", throwable);
+                    }
+                    return Mono.just(Collections.emptyList());
+                });
+    }
+
+    /**
+     * Get the endpoint slices of the service.
+     *
+     * @param serviceName the service name
+     * @param namespace   the namespace
+     * @return the endpoint slices labeled by {@link #SERVICE_NAME_LABEL} with the service name
+     */
+    public abstract Flux<V1EndpointSlice> getEndpointSlices(String serviceName, String namespace);
+
+    /**
+     * List the endpoint slices in the namespace.
+     *
+     * @param namespace the namespace
+     * @return the endpoint slices
+     */
+    public abstract Flux<V1EndpointSlice> listEndpointSlices(String namespace);
+
+    /**
+     * Resolves the name of the service the endpoint slice belongs to.
+     *
+     * @param slice the endpoint slice
+     * @return the service name or null if the slice is not labeled by {@link #SERVICE_NAME_LABEL}
+     */
+    @Nullable
+    public static String serviceNameOrNull(@Nullable V1EndpointSlice slice) {
+        return slice == null ? null : serviceNameOrNull(slice.getMetadata());
+    }
+
+    @Nullable
+    private static String serviceNameOrNull(@Nullable V1ObjectMeta metadata) {
+        if (metadata == null || metadata.getLabels() == null) {
+            return null;
+        }
+        return metadata.getLabels().get(SERVICE_NAME_LABEL);
+    }
+
+    private static List<ServiceInstance> buildServiceInstances(KubernetesServiceConfiguration serviceConfiguration,
+                                                               KubernetesConfiguration.KubernetesDiscoveryConfiguration.ReadinessPolicy readinessPolicy,
+                                                               List<V1EndpointSlice> slices) {
+        // the endpoint may be transiently present in multiple slices, hence the instances are de-duplicated by URI
+        Map<String, ServiceInstance> instances = new LinkedHashMap<>();
+        Map<String, ServiceInstance> servingTerminatingInstances = new LinkedHashMap<>();
+        for (V1EndpointSlice slice : slices) {
+            if (slice.getPorts() == null || slice.getEndpoints() == null) {
+                continue;
+            }
+            boolean ipv6 = ADDRESS_TYPE_IPV6.equals(slice.getAddressType());
+            List<PortBinder> ports = slice.getPorts().stream()
+                    .filter(port -> !serviceConfiguration.getPort().isPresent() || Objects.equals(port.getName(), serviceConfiguration.getPort().get()))
+                    .map(PortBinder::fromEndpointSlicePort)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            for (PortBinder port : ports) {
+                for (V1Endpoint endpoint : slice.getEndpoints()) {
+                    if (endpoint.getAddresses() == null || endpoint.getAddresses().isEmpty()) {
+                        continue;
+                    }
+                    Map<String, ServiceInstance> target;
+                    if (isReady(endpoint) || readinessPolicy == KubernetesConfiguration.KubernetesDiscoveryConfiguration.ReadinessPolicy.PUBLISH_NOT_READY) {
+                        target = instances;
+                    } else if (isServingTerminating(endpoint) && readinessPolicy == KubernetesConfiguration.KubernetesDiscoveryConfiguration.ReadinessPolicy.INCLUDE_SERVING_TERMINATING) {
+                        target = servingTerminatingInstances;
+                    } else {
+                        continue;
+                    }
+                    // the addresses are fungible, consumers are expected to use the first one
+                    String address = endpoint.getAddresses().get(0);
+                    ServiceInstance instance = buildServiceInstance(serviceConfiguration.getServiceId(), port,
+                            ipv6 ? "[" + address + "]" : address, slice.getMetadata(), instanceMetadata(endpoint));
+                    target.putIfAbsent(instance.getURI().toString(), instance);
+                }
+            }
+        }
+        // the serving terminating endpoints are used only as a fallback when there is no ready endpoint
+        if (instances.isEmpty()) {
+            return new ArrayList<>(servingTerminatingInstances.values());
+        }
+        return new ArrayList<>(instances.values());
+    }
+
+    private static Map<String, String> instanceMetadata(V1Endpoint endpoint) {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put(READY_METADATA, String.valueOf(isReady(endpoint)));
+        metadata.put(SERVING_METADATA, String.valueOf(isServing(endpoint)));
+        metadata.put(TERMINATING_METADATA, String.valueOf(isTerminating(endpoint)));
+        if (endpoint.getZone() != null) {
+            metadata.put(ZONE_METADATA, endpoint.getZone());
+        }
+        if (endpoint.getNodeName() != null) {
+            metadata.put(NODE_METADATA, endpoint.getNodeName());
+        }
+        if (endpoint.getHints() != null && endpoint.getHints().getForZones() != null && !endpoint.getHints().getForZones().isEmpty()) {
+            metadata.put(ZONE_HINTS_METADATA, endpoint.getHints().getForZones().stream()
+                    .map(V1ForZone::getName)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.joining(",")));
+        }
+        return metadata;
+    }
+
+    private static boolean isReady(V1Endpoint endpoint) {
+        // unknown state should be interpreted as ready
+        return endpoint.getConditions() == null || !Boolean.FALSE.equals(endpoint.getConditions().getReady());
+    }
+
+    private static boolean isServing(V1Endpoint endpoint) {
+        // unknown state should be interpreted as serving, the serving condition is not set by older clusters
+        if (endpoint.getConditions() == null || endpoint.getConditions().getServing() == null) {
+            return isReady(endpoint);
+        }
+        return endpoint.getConditions().getServing();
+    }
+
+    private static boolean isTerminating(V1Endpoint endpoint) {
+        return endpoint.getConditions() != null && Boolean.TRUE.equals(endpoint.getConditions().getTerminating());
+    }
+
+    private static boolean isServingTerminating(V1Endpoint endpoint) {
+        return isTerminating(endpoint) && isServing(endpoint);
+    }
+
+    /**
+     * The discovery filters match the resources by the service name and labels, the endpoint slice is named after
+     * the service with a generated suffix and mirrors the service labels.
+     */
+    private static KubernetesObject asServiceObject(KubernetesObject slice) {
+        V1ObjectMeta metadata = slice.getMetadata() == null ? new V1ObjectMeta() : slice.getMetadata();
+        return new V1Service().metadata(new V1ObjectMeta()
+                .name(serviceNameOrNull(metadata))
+                .namespace(metadata.getNamespace())
+                .labels(metadata.getLabels()));
+    }
+}
@@ -15,8 +15,11 @@
  */
 package io.micronaut.kubernetes.discovery.provider;
 
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1EndpointAddress;
 import io.kubernetes.client.openapi.models.V1Endpoints;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.discovery.ServiceInstance;
 import io.micronaut.kubernetes.KubernetesConfiguration;
 import io.micronaut.kubernetes.discovery.AbstractKubernetesServiceInstanceProvider;
@@ -30,12 +33,15 @@ import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service instance provider uses Kubernetes Endpoints as source of service discovery.
@@ -60,7 +66,17 @@ public abstract class AbstractV1EndpointsProvider extends AbstractKubernetesServ
 
     @Override
     public Publisher<String> getServiceIds(String namespace) {
-        return listEndpoints(namespace)
+        return serviceIds(listEndpoints(namespace));
+    }
+
+    /**
+     * Resolves the ids of the services whose endpoints match the discovery filters.
+     *
+     * @param endpoints the endpoints or their metadata
+     * @return the service ids
+     */
+    protected Flux<String> serviceIds(Flux<? extends KubernetesObject> endpoints) {
+        return endpoints
                 .filter(discoveryConfigurationFilter(discoveryConfiguration))
                 .mapNotNull(KubernetesUtils::objectNameOrNull)
                 .filter(Objects::nonNull);
@@ -74,6 +90,7 @@ public abstract class AbstractV1EndpointsProvider extends AbstractKubernetesServ
                 () -> new IllegalArgumentException("KubernetesServiceConfiguration is missing namespace."));
 
         AtomicReference<V1ObjectMeta> metadata = new AtomicReference<>();
+        boolean publishNotReady = readinessPolicy(serviceConfiguration, discoveryConfiguration) == KubernetesConfiguration.KubernetesDiscoveryConfiguration.ReadinessPolicy.PUBLISH_NOT_READY;
 
         return getEndpoints(serviceName, serviceNamespace)
                 .filter(serviceConfigurationDiscoveryFilter(serviceConfiguration, discoveryConfiguration))
@@ -83,13 +100,15 @@ public abstract class AbstractV1EndpointsProvider extends AbstractKubernetesServ
                 .filter(subset ->
                         hasValidPortConfiguration(Optional.ofNullable(subset.getPorts()).orElse(new ArrayList<>()).stream().map(PortBinder::fromEndpointPort).collect(Collectors.toList()), serviceConfiguration))
                 .filter(subset ->
-                        subset.getAddresses() != null && !subset.getAddresses().isEmpty())
+                        hasAddresses(subset.getAddresses()) || (publishNotReady && hasAddresses(subset.getNotReadyAddresses())))
                 .map(subset -> Optional.ofNullable(subset.getPorts()).orElse(new ArrayList<>())
                         .stream()
                         .filter(port -> !serviceConfiguration.getPort().isPresent() || Objects.equals(port.getName(), serviceConfiguration.getPort().get()))
-                        .flatMap(port -> subset.getAddresses()
-                                .stream()
-                                .map(address -> buildServiceInstance(serviceConfiguration.getServiceId(), PortBinder.fromEndpointPort(port), address.getIp(), metadata.get())))
+                        .flatMap(port -> Stream.concat(
+                                addresses(subset.getAddresses())
+                                        .map(address -> buildServiceInstance(serviceConfiguration.getServiceId(), PortBinder.fromEndpointPort(port), address.getIp(), metadata.get(), instanceMetadata(address, true))),
+                                publishNotReady ? addresses(subset.getNotReadyAddresses())
+                                        .map(address -> buildServiceInstance(serviceConfiguration.getServiceId(), PortBinder.fromEndpointPort(port), address.getIp(), metadata.get(), instanceMetadata(address, false))) : Stream.empty()))
                         .collect(Collectors.toList()))
                 .onErrorResume(throwable -> {
                     if (LOG.isErrorEnabled()) {
@@ -100,6 +119,23 @@ public abstract class AbstractV1EndpointsProvider extends AbstractKubernetesServ
                 .defaultIfEmpty(new ArrayList<>());
     }
 
+    private static boolean hasAddresses(@Nullable List<V1EndpointAddress> addresses) {
+        return addresses != null && !addresses.isEmpty();
+    }
+
+    private static Stream<V1EndpointAddress> addresses(@Nullable List<V1EndpointAddress> addresses) {
+        return addresses == null ? Stream.empty() : addresses.stream();
+    }
+
+    private static Map<String, String> instanceMetadata(V1EndpointAddress address, boolean ready) {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put(READY_METADATA, String.valueOf(ready));
+        if (address.getNodeName() != null) {
+            metadata.put(NODE_METADATA, address.getNodeName());
+        }
+        return metadata;
+    }
+
     public abstract Mono<V1Endpoints> getEndpoints(String name, String namespace);
 
     public abstract Flux<V1Endpoints> listEndpoints(String namespace);
@@ -15,6 +15,7 @@
  */
 package io.micronaut.kubernetes.discovery.provider;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.micronaut.discovery.ServiceInstance;
@@ -88,7 +89,17 @@ public abstract class AbstractV1ServiceProvider extends AbstractKubernetesServic
 
     @Override
     public Publisher<String> getServiceIds(String namespace) {
-        return listServices(namespace)
+        return serviceIds(listServices(namespace));
+    }
+
+    /**
+     * Resolves the ids of the services that match the discovery filters.
+     *
+     * @param services the services or their metadata
+     * @return the service ids
+     */
+    protected Flux<String> serviceIds(Flux<? extends KubernetesObject> services) {
+        return services
                 .filter(discoveryConfigurationFilter(discoveryConfiguration))
                 .mapNotNull(KubernetesUtils::objectNameOrNull)
                 .filter(Objects::nonNull);
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.discovery.provider;
+
+import io.kubernetes.client.openapi.models.V1EndpointSlice;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.kubernetes.client.informer.InformerIndexer;
+import jakarta.inject.Singleton;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Indexes the {@link V1EndpointSlice}s by the name of the Service they belong to, so that the slices of the Service
+ * are retrieved from the informer cache without scanning all the slices of the namespace.
+ *
+ * @since 6.2
+ */
+@Internal
+@Singleton
+@Requires(property = "kubernetes.client.discovery.mode-configuration.endpointslice.watch.enabled", notEquals = StringUtils.FALSE, defaultValue = StringUtils.FALSE)
+public class EndpointSliceServiceNameIndexer implements InformerIndexer<V1EndpointSlice> {
+
+    public static final String SERVICE_NAME_INDEX = "endpointSliceServiceName";
+
+    @Override
+    public Class<V1EndpointSlice> getApiType() {
+        return V1EndpointSlice.class;
+    }
+
+    @Override
+    public String getName() {
+        return SERVICE_NAME_INDEX;
+    }
+
+    @Override
+    public List<String> index(V1EndpointSlice slice) {
+        String serviceName = AbstractV1EndpointSliceProvider.serviceNameOrNull(slice);
+        return serviceName == null ? Collections.emptyList() : Collections.singletonList(serviceName);
+    }
+}
@@ -19,16 +19,22 @@ import io.kubernetes.client.openapi.models.V1Endpoints;
 import io.kubernetes.client.openapi.models.V1EndpointsList;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.discovery.ServiceInstance;
 import io.micronaut.kubernetes.KubernetesConfiguration;
+import io.micronaut.kubernetes.discovery.KubernetesServiceConfiguration;
 import io.micronaut.kubernetes.discovery.informer.IndexerComposite;
 import io.micronaut.kubernetes.discovery.informer.IndexerCompositeFactory;
 import io.micronaut.kubernetes.discovery.informer.InstanceProviderInformerNamespaceResolver;
+import io.micronaut.kubernetes.discovery.informer.ServiceInstanceCache;
 import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Service instance provider uses Kubernetes Endpoints Informer as source of service discovery.
  *
@@ -42,6 +48,7 @@ public class KubernetesServiceInstanceEndpointInformerProvider extends AbstractV
     protected static final Logger LOG = LoggerFactory.getLogger(KubernetesServiceInstanceEndpointInformerProvider.class);
 
     private IndexerComposite<V1Endpoints> indexerComposite;
+    private final ServiceInstanceCache<V1Endpoints> serviceInstanceCache = new ServiceInstanceCache<>();
 
     /**
      * Creates kubernetes instance endpoint provider.
@@ -59,6 +66,12 @@ public class KubernetesServiceInstanceEndpointInformerProvider extends AbstractV
                 V1EndpointsList.class,
                 RESOURCE_PLURAL,
                 informerNamespaceResolver.resolveInformerNamespaces(this));
+        this.indexerComposite.addEventHandler(serviceInstanceCache);
+    }
+
+    @Override
+    public Publisher<List<ServiceInstance>> getInstances(KubernetesServiceConfiguration serviceConfiguration) {
+        return serviceInstanceCache.getInstances(serviceConfiguration, () -> super.getInstances(serviceConfiguration));
     }
 
     @Override
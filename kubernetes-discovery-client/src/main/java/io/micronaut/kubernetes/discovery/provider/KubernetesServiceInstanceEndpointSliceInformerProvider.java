@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.discovery.provider;
+
+import io.kubernetes.client.openapi.models.V1EndpointSlice;
+import io.kubernetes.client.openapi.models.V1EndpointSliceList;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.kubernetes.KubernetesConfiguration;
+import io.micronaut.kubernetes.discovery.KubernetesServiceConfiguration;
+import io.micronaut.kubernetes.discovery.informer.IndexerComposite;
+import io.micronaut.kubernetes.discovery.informer.IndexerCompositeFactory;
+import io.micronaut.kubernetes.discovery.informer.InstanceProviderInformerNamespaceResolver;
+import io.micronaut.kubernetes.discovery.informer.ServiceInstanceCache;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Service instance provider uses Kubernetes EndpointSlice Informer as source of service discovery.
+ *
+ * @since 6.2
+ */
+@Requires(property = "kubernetes.client.discovery.mode-configuration.endpointslice.watch.enabled", notEquals = StringUtils.FALSE, defaultValue = StringUtils.FALSE)
+@Singleton
+public class KubernetesServiceInstanceEndpointSliceInformerProvider extends AbstractV1EndpointSliceProvider {
+    protected static final String RESOURCE_PLURAL = "endpointslices";
+    protected static final String API_GROUP = "discovery.k8s.io";
+    protected static final Logger LOG = LoggerFactory.getLogger(KubernetesServiceInstanceEndpointSliceInformerProvider.class);
+
+    private static final EndpointSliceServiceNameIndexer SERVICE_NAME_INDEXER = new EndpointSliceServiceNameIndexer();
+
+    private final IndexerComposite<V1EndpointSlice> indexerComposite;
+    private final ServiceInstanceCache<V1EndpointSlice> serviceInstanceCache =
+            new ServiceInstanceCache<>(AbstractV1EndpointSliceProvider::serviceNameOrNull);
+
+    /**
+     * Creates kubernetes instance endpoint slice provider.
+     *
+     * @param discoveryConfiguration    discovery configuration
+     * @param indexerCompositeFactory   service instance provider informer factory
+     * @param informerNamespaceResolver namespace resolver
+     */
+    public KubernetesServiceInstanceEndpointSliceInformerProvider(KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration,
+                                                                  InstanceProviderInformerNamespaceResolver informerNamespaceResolver,
+                                                                  IndexerCompositeFactory indexerCompositeFactory) {
+        super(discoveryConfiguration);
+        this.indexerComposite = indexerCompositeFactory.createInformersFor(
+                V1EndpointSlice.class,
+                V1EndpointSliceList.class,
+                RESOURCE_PLURAL,
+                API_GROUP,
+                informerNamespaceResolver.resolveInformerNamespaces(this));
+        this.indexerComposite.addEventHandler(serviceInstanceCache);
+    }
+
+    @Override
+    public Publisher<List<ServiceInstance>> getInstances(KubernetesServiceConfiguration serviceConfiguration) {
+        return serviceInstanceCache.getInstances(serviceConfiguration, () -> super.getInstances(serviceConfiguration));
+    }
+
+    @Override
+    public Flux<V1EndpointSlice> getEndpointSlices(String serviceName, String namespace) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Using Indexer to fetch EndpointSlices of Service [{}] from namespace [{}]", serviceName, namespace);
+        }
+
+        return indexerComposite.getResources(namespace, SERVICE_NAME_INDEXER, serviceName);
+    }
+
+    @Override
+    public Flux<V1EndpointSlice> listEndpointSlices(String namespace) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Using Indexer to fetch endpoint slices from namespace [{}]", namespace);
+        }
+
+        return indexerComposite.getResources(namespace);
+    }
+}
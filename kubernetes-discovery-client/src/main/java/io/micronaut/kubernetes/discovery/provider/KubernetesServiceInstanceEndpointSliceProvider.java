@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.discovery.provider;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1EndpointSlice;
+import io.kubernetes.client.openapi.models.V1EndpointSliceList;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.kubernetes.KubernetesConfiguration;
+import io.micronaut.kubernetes.client.informer.PartialObjectMetadata;
+import io.micronaut.kubernetes.client.reactor.DiscoveryV1ApiReactorClient;
+import io.micronaut.kubernetes.discovery.informer.IndexerComposite;
+import io.micronaut.kubernetes.discovery.informer.IndexerCompositeFactory;
+import io.micronaut.kubernetes.util.KubernetesUtils;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+
+/**
+ * Service instance provider uses Kubernetes EndpointSlice API as source of service discovery.
+ *
+ * @since 6.2
+ */
+@Requires(property = "kubernetes.client.discovery.mode-configuration.endpointslice.watch.enabled", notEquals = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+@Singleton
+public class KubernetesServiceInstanceEndpointSliceProvider extends AbstractV1EndpointSliceProvider {
+    protected static final Logger LOG = LoggerFactory.getLogger(KubernetesServiceInstanceEndpointSliceProvider.class);
+
+    private final DiscoveryV1ApiReactorClient client;
+    private final KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration;
+    private final IndexerComposite<PartialObjectMetadata> serviceIdsIndexer;
+
+    /**
+     * Creates kubernetes instance endpoint slice provider.
+     *
+     * @param client                 client
+     * @param discoveryConfiguration discovery configuration
+     * @deprecated Use new version {@link KubernetesServiceInstanceEndpointSliceProvider#KubernetesServiceInstanceEndpointSliceProvider(DiscoveryV1ApiReactorClient, KubernetesConfiguration, KubernetesConfiguration.KubernetesDiscoveryConfiguration, IndexerCompositeFactory)}
+     */
+    @Deprecated
+    public KubernetesServiceInstanceEndpointSliceProvider(DiscoveryV1ApiReactorClient client,
+                                                          KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration) {
+        this(client, null, discoveryConfiguration, null);
+    }
+
+    /**
+     * Creates kubernetes instance endpoint slice provider.
+     *
+     * @param client                  client
+     * @param configuration           kubernetes configuration
+     * @param discoveryConfiguration  discovery configuration
+     * @param indexerCompositeFactory indexer composite factory, used to list the service ids when
+     *                                {@link KubernetesConfiguration.KubernetesDiscoveryConfiguration#isWatchServiceIds()} is enabled
+     * @since 6.2
+     */
+    @Inject
+    public KubernetesServiceInstanceEndpointSliceProvider(DiscoveryV1ApiReactorClient client,
+                                                          @Nullable KubernetesConfiguration configuration,
+                                                          KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration,
+                                                          @Nullable IndexerCompositeFactory indexerCompositeFactory) {
+        super(discoveryConfiguration);
+        this.client = client;
+        this.discoveryConfiguration = discoveryConfiguration;
+        this.serviceIdsIndexer = createServiceIdsIndexer(indexerCompositeFactory, configuration, discoveryConfiguration,
+                V1EndpointSlice.class, "endpointslices", "discovery.k8s.io");
+    }
+
+    @Override
+    public Publisher<String> getServiceIds(String namespace) {
+        if (serviceIdsIndexer == null || !serviceIdsIndexer.isSynced()) {
+            return super.getServiceIds(namespace);
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Using metadata Indexer to fetch service ids from namespace [{}]", namespace);
+        }
+        return serviceIds(serviceIdsIndexer.getResources(namespace));
+    }
+
+    @Override
+    public Flux<V1EndpointSlice> getEndpointSlices(String serviceName, String namespace) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Using API to fetch EndpointSlices of Service [{}] from namespace [{}]", serviceName, namespace);
+        }
+
+        return KubernetesUtils.listAllPages((continueToken, limit) ->
+                        client.listNamespacedEndpointSlice(namespace, null, null, continueToken, null, SERVICE_NAME_LABEL + "=" + serviceName, limit, null, null, null, null),
+                        discoveryConfiguration.getPageSize())
+                .doOnError(ApiException.class, throwable -> LOG.error("Failed to list EndpointSlices of Service [" + serviceName + "] from namespace [" + namespace + "]: " + throwable.getResponseBody(), throwable))
+                .flatMapIterable(V1EndpointSliceList::getItems);
+    }
+
+    @Override
+    public Flux<V1EndpointSlice> listEndpointSlices(String namespace) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Using API to fetch endpoint slices from namespace [{}]", namespace);
+        }
+
+        return KubernetesUtils.listAllPages((continueToken, limit) ->
+                        client.listNamespacedEndpointSlice(namespace, null, null, continueToken, null, null, limit, null, null, null, null),
+                        discoveryConfiguration.getPageSize())
+                .doOnError(ApiException.class, throwable -> LOG.error("Failed to list EndpointSlices from namespace [" + namespace + "]: " + throwable.getResponseBody(), throwable))
+                .flatMapIterable(V1EndpointSliceList::getItems);
+    }
+}
@@ -19,16 +19,22 @@ import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.discovery.ServiceInstance;
 import io.micronaut.kubernetes.KubernetesConfiguration;
+import io.micronaut.kubernetes.discovery.KubernetesServiceConfiguration;
 import io.micronaut.kubernetes.discovery.informer.IndexerComposite;
 import io.micronaut.kubernetes.discovery.informer.IndexerCompositeFactory;
 import io.micronaut.kubernetes.discovery.informer.InstanceProviderInformerNamespaceResolver;
+import io.micronaut.kubernetes.discovery.informer.ServiceInstanceCache;
 import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Service instance provider uses Kubernetes Service Informer as source of service discovery.
  *
@@ -42,6 +48,7 @@ public class KubernetesServiceInstanceServiceInformerProvider extends AbstractV1
     protected static final Logger LOG = LoggerFactory.getLogger(KubernetesServiceInstanceServiceInformerProvider.class);
 
     private final IndexerComposite<V1Service> indexerComposite;
+    private final ServiceInstanceCache<V1Service> serviceInstanceCache = new ServiceInstanceCache<>();
 
     /**
      * Creates kubernetes instance endpoint provider.
@@ -60,7 +67,13 @@ public class KubernetesServiceInstanceServiceInformerProvider extends AbstractV1
                 V1ServiceList.class,
                 RESOURCE_PLURAL,
                 informerNamespaceResolver.resolveInformerNamespaces(this));
+        this.indexerComposite.addEventHandler(serviceInstanceCache);
+
+    }
 
+    @Override
+    public Publisher<List<ServiceInstance>> getInstances(KubernetesServiceConfiguration serviceConfiguration) {
+        return serviceInstanceCache.getInstances(serviceConfiguration, () -> super.getInstances(serviceConfiguration));
     }
 
     @Override
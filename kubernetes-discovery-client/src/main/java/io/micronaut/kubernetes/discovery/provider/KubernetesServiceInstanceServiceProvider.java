@@ -19,10 +19,17 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.kubernetes.KubernetesConfiguration;
+import io.micronaut.kubernetes.client.informer.PartialObjectMetadata;
 import io.micronaut.kubernetes.client.reactor.CoreV1ApiReactorClient;
+import io.micronaut.kubernetes.discovery.informer.IndexerComposite;
+import io.micronaut.kubernetes.discovery.informer.IndexerCompositeFactory;
+import io.micronaut.kubernetes.util.KubernetesUtils;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
@@ -40,17 +47,53 @@ public class KubernetesServiceInstanceServiceProvider extends AbstractV1ServiceP
     protected static final Logger LOG = LoggerFactory.getLogger(KubernetesServiceInstanceServiceProvider.class);
 
     private final CoreV1ApiReactorClient client;
+    private final KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration;
+    private final IndexerComposite<PartialObjectMetadata> serviceIdsIndexer;
 
     /**
      * Creates kubernetes instance service provider.
      *
      * @param client                 client
      * @param discoveryConfiguration discovery configuration
+     * @deprecated Use new version {@link KubernetesServiceInstanceServiceProvider#KubernetesServiceInstanceServiceProvider(CoreV1ApiReactorClient, KubernetesConfiguration, KubernetesConfiguration.KubernetesDiscoveryConfiguration, IndexerCompositeFactory)}
      */
+    @Deprecated
     public KubernetesServiceInstanceServiceProvider(CoreV1ApiReactorClient client,
                                                     KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration) {
+        this(client, null, discoveryConfiguration, null);
+    }
+
+    /**
+     * Creates kubernetes instance service provider.
+     *
+     * @param client                  client
+     * @param configuration           kubernetes configuration
+     * @param discoveryConfiguration  discovery configuration
+     * @param indexerCompositeFactory indexer composite factory, used to list the service ids when
+     *                                {@link KubernetesConfiguration.KubernetesDiscoveryConfiguration#isWatchServiceIds()} is enabled
+     * @since 6.2
+     */
+    @Inject
+    public KubernetesServiceInstanceServiceProvider(CoreV1ApiReactorClient client,
+                                                    @Nullable KubernetesConfiguration configuration,
+                                                    KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration,
+                                                    @Nullable IndexerCompositeFactory indexerCompositeFactory) {
         super(discoveryConfiguration);
         this.client = client;
+        this.discoveryConfiguration = discoveryConfiguration;
+        this.serviceIdsIndexer = createServiceIdsIndexer(indexerCompositeFactory, configuration, discoveryConfiguration,
+                V1Service.class, "services", "");
+    }
+
+    @Override
+    public Publisher<String> getServiceIds(String namespace) {
+        if (serviceIdsIndexer == null || !serviceIdsIndexer.isSynced()) {
+            return super.getServiceIds(namespace);
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Using metadata Indexer to fetch service ids from namespace [{}]", namespace);
+        }
+        return serviceIds(serviceIdsIndexer.getResources(namespace));
     }
 
     @Override
@@ -69,7 +112,9 @@ public class KubernetesServiceInstanceServiceProvider extends AbstractV1ServiceP
             LOG.trace("Using API to fetch services from namespace [{}]", namespace);
         }
 
-        return client.listNamespacedService(namespace, null, null, null, null, null, null, null, null, null, null)
+        return KubernetesUtils.listAllPages((continueToken, limit) ->
+                        client.listNamespacedService(namespace, null, null, continueToken, null, null, limit, null, null, null, null),
+                        discoveryConfiguration.getPageSize())
                 .doOnError(ApiException.class, throwable -> LOG.error("Failed to list Services from namespace [" + namespace + "]: " + throwable.getResponseBody(), throwable))
                 .flatMapIterable(V1ServiceList::getItems);
     }
@@ -15,31 +15,44 @@
  */
 package io.micronaut.kubernetes.util;
 
+import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Secret;
 import io.micronaut.context.env.EnvironmentPropertySource;
 import io.micronaut.context.env.PropertySource;
 import io.micronaut.context.env.PropertySourceLoader;
 import io.micronaut.context.env.PropertySourceReader;
 import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.kubernetes.client.reactor.CoreV1ApiReactorClient;
 import io.micronaut.kubernetes.configuration.KubernetesConfigurationClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -58,6 +71,17 @@ public class KubernetesUtils {
     public static final String ENV_KUBERNETES_SERVICE_HOST = "KUBERNETES_SERVICE_HOST";
     private static final Logger LOG = LoggerFactory.getLogger(KubernetesUtils.class);
     private static final List<PropertySourceReader> PROPERTY_SOURCE_READERS = StreamSupport.stream(ServiceLoader.load(PropertySourceLoader.class).spliterator(), false).collect(Collectors.toList());
+    private static final Map<String, PropertySourceReader> PROPERTY_SOURCE_READERS_BY_EXTENSION = propertySourceReadersByExtension();
+    private static final int PARSED_PROPERTY_SOURCES_CACHE_SIZE = 64;
+    private static final int EXPIRED_LIST_RESTARTS = 3;
+    private static final int GONE = 410;
+    private static final Map<String, Map<String, Object>> PARSED_PROPERTY_SOURCES = Collections.synchronizedMap(
+            new LinkedHashMap<String, Map<String, Object>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Map<String, Object>> eldest) {
+                    return size() > PARSED_PROPERTY_SOURCES_CACHE_SIZE;
+                }
+            });
 
     /**
      * Converts a {@link V1ConfigMap} into a {@link PropertySource}.
@@ -77,7 +101,8 @@ public class KubernetesUtils {
         }
 
         Map.Entry<String, String> entry = data.entrySet().iterator().next();
-        if (data.size() > 1 || !getExtension(entry.getKey()).isPresent()) {
+        Optional<String> extension = getExtension(entry.getKey());
+        if (data.size() > 1 || !extension.isPresent()) {
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Considering this ConfigMap as containing multiple literal key/values");
             }
@@ -88,14 +113,12 @@ public class KubernetesUtils {
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Considering this ConfigMap as containing values from a single file");
             }
-            String extension = getExtension(entry.getKey()).get();
             int priority = EnvironmentPropertySource.POSITION + 100;
-            PropertySource propertySource = PROPERTY_SOURCE_READERS.stream()
-                    .filter(reader -> reader.getExtensions().contains(extension))
-                    .map(reader -> reader.read(entry.getKey(), entry.getValue().getBytes()))
-                    .peek(map -> map.putIfAbsent(KubernetesConfigurationClient.CONFIG_MAP_RESOURCE_VERSION, configMap.getMetadata().getResourceVersion()))
-                    .map(map -> PropertySource.of(entry.getKey() + KUBERNETES_CONFIG_MAP_NAME_SUFFIX, map, priority))
-                    .findFirst()
+            PropertySource propertySource = read(entry.getKey(), extension.get(), entry.getValue())
+                    .map(map -> {
+                        map.putIfAbsent(KubernetesConfigurationClient.CONFIG_MAP_RESOURCE_VERSION, configMap.getMetadata().getResourceVersion());
+                        return PropertySource.of(entry.getKey() + KUBERNETES_CONFIG_MAP_NAME_SUFFIX, map, priority);
+                    })
                     .orElse(PropertySource.of(Collections.emptyMap()));
 
             KubernetesConfigurationClient.addPropertySourceToCache(propertySource);
@@ -135,11 +158,8 @@ public class KubernetesUtils {
             String propertyName = mountPoint + "/" + entry.getKey() + KUBERNETES_CONFIG_MAP_NAME_SUFFIX;
 
             int priority = EnvironmentPropertySource.POSITION + 150;
-            PropertySource propertySource = PROPERTY_SOURCE_READERS.stream()
-                    .filter(reader -> reader.getExtensions().contains(fileExtension))
-                    .map(reader -> reader.read(entry.getKey(), entry.getValue().getBytes()))
+            PropertySource propertySource = read(entry.getKey(), fileExtension, entry.getValue())
                     .map(map -> PropertySource.of(propertyName, map, priority))
-                    .findFirst()
                     .orElse(PropertySource.of(Collections.emptyMap()));
             propertySources.add(propertySource);
         }
@@ -183,7 +203,7 @@ public class KubernetesUtils {
         if (data != null) {
             propertySourceData = data.entrySet()
                     .stream()
-                    .collect(Collectors.toMap(Map.Entry::getKey, v -> new String(v.getValue())));
+                    .collect(Collectors.toMap(Map.Entry::getKey, v -> new String(v.getValue(), StandardCharsets.UTF_8)));
         } else {
             propertySourceData = Collections.emptyMap();
         }
@@ -220,6 +240,35 @@ public class KubernetesUtils {
         return includesFilter;
     }
 
+    /**
+     * Computes the field selector that narrows down the resources listed by the API server to the included names and
+     * without the excluded names. The field selectors can't match a set of values, hence only a single included name
+     * is selected by the API server, the other includes are applied by the {@link #getIncludesFilter(Collection)}.
+     *
+     * @param includes       the names of the objects to include
+     * @param excludes       the names of the objects to exclude
+     * @param fieldSelectors the additional field selector requirements, e.g. {@code type=Opaque}
+     * @return the field selector or null if there is no requirement
+     */
+    @Nullable
+    public static String computeFieldSelector(Collection<String> includes, Collection<String> excludes, String... fieldSelectors) {
+        List<String> requirements = new ArrayList<>(Arrays.asList(fieldSelectors));
+        if (includes.size() == 1) {
+            requirements.add("metadata.name=" + includes.iterator().next());
+        }
+        for (String exclude : excludes) {
+            requirements.add("metadata.name!=" + exclude);
+        }
+        if (requirements.isEmpty()) {
+            return null;
+        }
+        String fieldSelector = String.join(",", requirements);
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Computed field selector: {}", fieldSelector);
+        }
+        return fieldSelector;
+    }
+
     /**
      * @param excludes the objects to excludes
      * @return a {@link Predicate} based on a collection of object names to excludes
@@ -300,6 +349,20 @@ public class KubernetesUtils {
     public static Mono<String> computePodLabelSelector(CoreV1ApiReactorClient client, List<String> podLabelKeys,
                                                        String namespace, Map<String, String> labels,
                                                        boolean exceptionOnPodLabelsMissing) {
+        return computePodLabelSelector(readCurrentPod(client, namespace), podLabelKeys, labels, exceptionOnPodLabelsMissing);
+    }
+
+    /**
+     * @param currentPod   the {@link Mono} of the Pod the application is running in, subscribed only when the pod labels are needed
+     * @param podLabelKeys the list of labels inside a pod
+     * @param labels       the labels
+     * @param exceptionOnPodLabelsMissing     should and exception be thrown if configured pod label is not found
+     * @return the filtered labels of the current pod
+     * @since 6.2
+     */
+    public static Mono<String> computePodLabelSelector(Mono<V1Pod> currentPod, List<String> podLabelKeys,
+                                                       Map<String, String> labels,
+                                                       boolean exceptionOnPodLabelsMissing) {
         // determine if we are running inside a pod. This environment variable is always been set.
         String host = System.getenv(ENV_KUBERNETES_SERVICE_HOST);
         if (host == null) {
@@ -308,11 +371,11 @@ public class KubernetesUtils {
             }
             return Mono.just(computeLabelSelector(labels));
         }
+        if (podLabelKeys.isEmpty()) {
+            return Mono.just(computeLabelSelector(labels));
+        }
 
-        final String podName = System.getenv(HOSTNAME_ENV_VARIABLE);
-        return client.readNamespacedPod(podName, namespace, null)
-                .doOnError(ApiException.class, throwable ->
-                        LOG.error("Failed to read the Pod [" + podName + "] the application is running in: " + throwable.getResponseBody(), throwable))
+        return currentPod
                 .map(pod -> {
                     Map<String, String> result = new HashMap<>();
                     Map<String, String> podLabels = Objects.requireNonNull(pod.getMetadata()).getLabels();
@@ -339,7 +402,124 @@ public class KubernetesUtils {
                     result.putAll(labels);
                     return computeLabelSelector(result);
                 })
-                .doOnError(throwable -> LOG.error("Failed to compute the label selector [" + podLabelKeys + "] from the Pod [" + podName + "]: " + throwable.getMessage(), throwable));
+                .doOnError(throwable -> LOG.error("Failed to compute the label selector [" + podLabelKeys + "] from the Pod [" + System.getenv(HOSTNAME_ENV_VARIABLE) + "]: " + throwable.getMessage(), throwable));
+    }
+
+    /**
+     * Lists the resources page by page, following the continue token of the list response. The next page is requested
+     * only once the previous one was emitted, so the whole list is never held in one response.
+     *
+     * <p>An error fails the stream after the pages emitted so far, e.g. the 410 Gone of the continue token that expired
+     * while the pages were listed, hence the consumers must treat the error as the failure of the whole list. See
+     * {@link #listAllPages(BiFunction, int)} to emit the pages only once the whole list was read.</p>
+     *
+     * @param listCall the list call taking the continue token and the limit, the token is {@code null} for the first
+     *                 page, the limit is the page size, or {@code null} when the paging is disabled
+     * @param pageSize the maximum number of resources of one page, if not positive then all resources are listed at once
+     * @param <L>      the list type
+     * @return the pages of the list
+     * @since 6.2
+     */
+    public static <L extends KubernetesListObject> Flux<L> listPages(BiFunction<String, Integer, Mono<L>> listCall, int pageSize) {
+        Integer limit = pageSize > 0 ? pageSize : null;
+        return Mono.defer(() -> listCall.apply(null, limit))
+                .expand(list -> {
+                    String continueToken = list.getMetadata() == null ? null : list.getMetadata().getContinue();
+                    if (limit == null || continueToken == null || continueToken.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("Listing the next page of {} {}", limit, list.getKind());
+                    }
+                    return listCall.apply(continueToken, limit);
+                });
+    }
+
+    /**
+     * Lists the resources page by page like {@link #listPages(BiFunction, int)}, but the pages are emitted only once
+     * the whole list was read, so an error never leaves the consumer with a part of the list. When the continue token
+     * expires while the pages are listed, i.e. the API responds with 410 Gone, the listing is restarted from the first
+     * page.
+     *
+     * @param listCall the list call taking the continue token and the limit, see {@link #listPages(BiFunction, int)}
+     * @param pageSize the maximum number of resources of one page, if not positive then all resources are listed at once
+     * @param <L>      the list type
+     * @return the pages of the list
+     * @since 6.2
+     */
+    public static <L extends KubernetesListObject> Flux<L> listAllPages(BiFunction<String, Integer, Mono<L>> listCall, int pageSize) {
+        return listPages(listCall, pageSize)
+                .collectList()
+                .retryWhen(Retry.max(EXPIRED_LIST_RESTARTS)
+                        .filter(throwable -> throwable instanceof ApiException apiException && apiException.getCode() == GONE)
+                        .doBeforeRetry(signal -> {
+                            if (LOG.isDebugEnabled()) {
+                                LOG.debug("The continue token of the list expired, listing again from the first page");
+                            }
+                        })
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .flatMapIterable(Function.identity());
+    }
+
+    /**
+     * Reads the Pod the application is running in. The Pod is read on every subscription, use {@link Mono#cache()} to
+     * share a single read.
+     *
+     * @param client    the {@link CoreV1ApiReactorClient}
+     * @param namespace the namespace of the Pod
+     * @return the Pod the application is running in
+     * @since 6.2
+     */
+    public static Mono<V1Pod> readCurrentPod(CoreV1ApiReactorClient client, String namespace) {
+        final String podName = System.getenv(HOSTNAME_ENV_VARIABLE);
+        return Mono.defer(() -> client.readNamespacedPod(podName, namespace, null))
+                .doOnError(ApiException.class, throwable ->
+                        LOG.error("Failed to read the Pod [" + podName + "] the application is running in: " + throwable.getResponseBody(), throwable));
+    }
+
+    /**
+     * Parses the file contents by the {@link PropertySourceReader} of the file extension. The parsed contents are cached
+     * by the digest of the contents, so the same contents read again, e.g. on the informer resync, are not parsed again.
+     *
+     * @param fileName  the file name
+     * @param extension the file extension
+     * @param contents  the file contents
+     * @return the mutable copy of the parsed contents, or empty if there's no reader of the file extension
+     */
+    private static Optional<Map<String, Object>> read(String fileName, String extension, String contents) {
+        PropertySourceReader reader = PROPERTY_SOURCE_READERS_BY_EXTENSION.get(extension);
+        if (reader == null) {
+            return Optional.empty();
+        }
+        byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+        String key = extension + ":" + digest(bytes);
+        Map<String, Object> parsed = PARSED_PROPERTY_SOURCES.get(key);
+        if (parsed == null) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Parsing the contents of the file: {}", fileName);
+            }
+            parsed = Collections.unmodifiableMap(reader.read(fileName, bytes));
+            PARSED_PROPERTY_SOURCES.put(key, parsed);
+        }
+        return Optional.of(new HashMap<>(parsed));
+    }
+
+    private static String digest(byte[] bytes) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static Map<String, PropertySourceReader> propertySourceReadersByExtension() {
+        Map<String, PropertySourceReader> readers = new HashMap<>();
+        for (PropertySourceReader reader : PROPERTY_SOURCE_READERS) {
+            for (String extension : reader.getExtensions()) {
+                readers.putIfAbsent(extension, reader);
+            }
+        }
+        return Collections.unmodifiableMap(readers);
     }
 
     private static String getPropertySourceName(V1ConfigMap configMap) {
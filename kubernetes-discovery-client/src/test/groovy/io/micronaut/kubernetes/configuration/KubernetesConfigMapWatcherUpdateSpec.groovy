@@ -0,0 +1,77 @@
+package io.micronaut.kubernetes.configuration
+
+import io.kubernetes.client.openapi.models.V1ConfigMap
+import io.kubernetes.client.openapi.models.V1ObjectMeta
+import io.micronaut.context.env.Environment
+import io.micronaut.context.event.ApplicationEventPublisher
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.discovery.event.ServiceReadyEvent
+import io.micronaut.kubernetes.KubernetesConfiguration
+import spock.lang.Specification
+
+class KubernetesConfigMapWatcherUpdateSpec extends Specification {
+
+    Environment environment = Mock(Environment)
+
+    KubernetesConfigMapWatcher watcher = new KubernetesConfigMapWatcher(environment, new KubernetesConfiguration(() -> "default"),
+            Mock(ApplicationEventPublisher), null)
+
+    def setup() {
+        watcher.onApplicationEvent(new ServiceReadyEvent(Stub(ServiceInstance)))
+    }
+
+    def cleanup() {
+        KubernetesConfigurationClient.removeConfigMapVersion("update-spec")
+        KubernetesConfigurationClient.removePropertySourceFromCache("update-spec (Kubernetes ConfigMap)")
+    }
+
+    def "it skips the update of the ConfigMap with the same resource version"() {
+        given:
+        def configMap = configMap("1", [foo: "bar", bar: "baz"])
+
+        when:
+        watcher.onAdd(configMap)
+        watcher.onUpdate(configMap, configMap)
+
+        then:
+        1 * environment.refreshAndDiff() >> [:]
+    }
+
+    def "it skips the update of the ConfigMap with the same data"() {
+        when:
+        watcher.onAdd(configMap("1", [foo: "bar", bar: "baz"]))
+        watcher.onUpdate(configMap("1", [foo: "bar", bar: "baz"]), configMap("2", [bar: "baz", foo: "bar"]))
+
+        then:
+        1 * environment.refreshAndDiff() >> [:]
+    }
+
+    def "it refreshes the environment when the data of the ConfigMap changes"() {
+        when:
+        watcher.onAdd(configMap("1", [foo: "bar", bar: "baz"]))
+        watcher.onUpdate(configMap("1", [foo: "bar", bar: "baz"]), configMap("2", [foo: "baz", bar: "baz"]))
+
+        then:
+        2 * environment.refreshAndDiff() >> [:]
+        KubernetesConfigurationClient.propertySourceCache["update-spec (Kubernetes ConfigMap)"].get("foo") == "baz"
+    }
+
+    def "it refreshes the environment when the deleted ConfigMap is added again"() {
+        given:
+        def deleted = configMap("1", [foo: "bar", bar: "baz"])
+
+        when:
+        watcher.onAdd(deleted)
+        watcher.onDelete(deleted, false)
+        watcher.onAdd(configMap("3", [foo: "bar", bar: "baz"]))
+
+        then:
+        3 * environment.refreshAndDiff() >> [:]
+    }
+
+    private static V1ConfigMap configMap(String resourceVersion, Map<String, String> data) {
+        new V1ConfigMap()
+                .metadata(new V1ObjectMeta().name("update-spec").resourceVersion(resourceVersion))
+                .data(new HashMap<>(data))
+    }
+}
@@ -0,0 +1,78 @@
+package io.micronaut.kubernetes.configuration
+
+import io.micronaut.context.env.Environment
+import io.micronaut.context.env.PropertySource
+import io.micronaut.context.exceptions.ConfigurationException
+import io.micronaut.kubernetes.KubernetesConfiguration
+import io.kubernetes.client.openapi.models.V1ConfigMap
+import io.kubernetes.client.openapi.models.V1ConfigMapList
+import io.kubernetes.client.openapi.models.V1ListMeta
+import io.kubernetes.client.openapi.models.V1ObjectMeta
+import io.micronaut.kubernetes.client.reactor.CoreV1ApiReactorClient
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+
+class KubernetesConfigurationClientTimeoutSpec extends Specification {
+
+    Map<String, PropertySource> cachedPropertySources
+
+    def setup() {
+        // the property source cache is shared, it's restored after the test
+        cachedPropertySources = new HashMap<>(KubernetesConfigurationClient.propertySourceCache)
+        KubernetesConfigurationClient.propertySourceCache.clear()
+    }
+
+    def cleanup() {
+        KubernetesConfigurationClient.propertySourceCache.clear()
+        KubernetesConfigurationClient.propertySourceCache.putAll(cachedPropertySources)
+    }
+
+    def "it fails when the ConfigMaps aren't read within the timeout"() {
+        given:
+        def client = Stub(CoreV1ApiReactorClient) {
+            listNamespacedConfigMap(*_) >> Mono.never()
+        }
+        def configuration = new KubernetesConfiguration(() -> "default")
+        configuration.configClientTimeout = Duration.ofMillis(100)
+        def configurationClient = new KubernetesConfigurationClient(client, configuration)
+
+        when:
+        Flux.from(configurationClient.getPropertySources(Stub(Environment))).collectList().block()
+
+        then:
+        def e = thrown(ConfigurationException)
+        e.message.contains("kubernetes.client.config-client-timeout")
+    }
+
+    def "it fails when the ConfigMaps pages keep coming after the timeout"() {
+        given:
+        def pages = new AtomicInteger()
+        def client = Stub(CoreV1ApiReactorClient) {
+            // every page arrives well within the timeout, but the listing never ends
+            listNamespacedConfigMap(*_) >> { Mono.delay(Duration.ofMillis(20)).map { page(pages.incrementAndGet()) } }
+        }
+        def configuration = new KubernetesConfiguration(() -> "default")
+        configuration.configClientTimeout = Duration.ofSeconds(1)
+        def configurationClient = new KubernetesConfigurationClient(client, configuration)
+
+        when:
+        Flux.from(configurationClient.getPropertySources(Stub(Environment))).collectList().block(Duration.ofSeconds(5))
+
+        then:
+        def e = thrown(ConfigurationException)
+        e.message.contains("kubernetes.client.config-client-timeout")
+        pages.get() > 1
+    }
+
+    private static V1ConfigMapList page(int index) {
+        new V1ConfigMapList()
+                .metadata(new V1ListMeta()._continue("page-" + (index + 1)).resourceVersion("1"))
+                .items([new V1ConfigMap()
+                                .metadata(new V1ObjectMeta().name("config-map-" + index).resourceVersion("1"))
+                                .data([("config-map-" + index + ".properties"): "index=" + index])])
+    }
+}
@@ -0,0 +1,202 @@
+package io.micronaut.kubernetes.configuration
+
+import io.micronaut.context.env.Environment
+import io.micronaut.context.event.ApplicationEventPublisher
+import io.micronaut.kubernetes.KubernetesConfiguration
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.AbstractExecutorService
+import java.util.concurrent.Callable
+import java.util.concurrent.Delayed
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+
+class KubernetesEnvironmentRefresherSpec extends Specification {
+
+    ManualScheduler scheduler = new ManualScheduler()
+
+    def "it coalesces the refresh requests within the quiet period"() {
+        given:
+        def environment = Mock(Environment)
+        def eventPublisher = Mock(ApplicationEventPublisher)
+        def refresher = refresher(environment, eventPublisher, Duration.ofMillis(200), Duration.ofSeconds(5))
+
+        when:
+        5.times { refresher.requestRefresh() }
+        scheduler.advance(Duration.ofMillis(199))
+
+        then:
+        0 * environment.refreshAndDiff()
+
+        when:
+        scheduler.advance(Duration.ofMillis(1))
+
+        then:
+        1 * environment.refreshAndDiff() >> [foo: "bar"]
+        1 * eventPublisher.publishEvent({ RefreshEvent event -> event.source == [foo: "bar"] })
+    }
+
+    def "it refreshes the environment not later than the max delay"() {
+        given:
+        def environment = Mock(Environment)
+        def eventPublisher = Mock(ApplicationEventPublisher)
+        def refresher = refresher(environment, eventPublisher, Duration.ofMillis(300), Duration.ofMillis(500))
+
+        when:
+        30.times {
+            refresher.requestRefresh()
+            scheduler.advance(Duration.ofMillis(50))
+        }
+
+        then:
+        3 * environment.refreshAndDiff() >> [:]
+        0 * eventPublisher.publishEvent(_)
+    }
+
+    def "the refresh keeps the refresh requested while it was starting"() {
+        given:
+        def environment = Mock(Environment)
+        def refresher = refresher(environment, Mock(ApplicationEventPublisher), Duration.ofMillis(200), Duration.ofSeconds(5))
+
+        when: "the refresh requested after the scheduled one started, but before it took the lock"
+        refresher.requestRefresh()
+        def started = scheduler.futures[0]
+        refresher.requestRefresh()
+        def requested = scheduler.futures[1]
+        started.task.run()
+
+        then:
+        1 * environment.refreshAndDiff() >> [:]
+
+        when:
+        refresher.close()
+
+        then:
+        requested.isCancelled()
+    }
+
+    private KubernetesEnvironmentRefresher refresher(Environment environment,
+                                                     ApplicationEventPublisher eventPublisher,
+                                                     Duration quietPeriod,
+                                                     Duration maxDelay) {
+        def configuration = new KubernetesConfiguration(() -> "default")
+        configuration.refresh.quietPeriod = quietPeriod
+        configuration.refresh.maxDelay = maxDelay
+        new KubernetesEnvironmentRefresher(environment, eventPublisher, scheduler, configuration, () -> scheduler.nanos)
+    }
+
+    /**
+     * The scheduler whose time is advanced by the test.
+     */
+    static class ManualScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+        long nanos
+        List<ManualFuture> futures = []
+
+        void advance(Duration duration) {
+            nanos += duration.toNanos()
+            futures.findAll { !it.cancelled && !it.done && it.at <= nanos }
+                    .sort { it.at }
+                    .each { it.done = true; it.task.run() }
+        }
+
+        @Override
+        ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+            def future = new ManualFuture(task: task, at: nanos + unit.toNanos(delay), scheduler: this)
+            futures << future
+            future
+        }
+
+        @Override
+        <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException()
+        }
+
+        @Override
+        ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            throw new UnsupportedOperationException()
+        }
+
+        @Override
+        ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException()
+        }
+
+        @Override
+        void execute(Runnable command) {
+            command.run()
+        }
+
+        @Override
+        void shutdown() {
+        }
+
+        @Override
+        List<Runnable> shutdownNow() {
+            []
+        }
+
+        @Override
+        boolean isShutdown() {
+            false
+        }
+
+        @Override
+        boolean isTerminated() {
+            false
+        }
+
+        @Override
+        boolean awaitTermination(long timeout, TimeUnit unit) {
+            true
+        }
+    }
+
+    static class ManualFuture implements ScheduledFuture<Object> {
+        Runnable task
+        long at
+        boolean cancelled
+        boolean done
+        ManualScheduler scheduler
+
+        @Override
+        long getDelay(TimeUnit unit) {
+            unit.convert(at - scheduler.nanos, TimeUnit.NANOSECONDS)
+        }
+
+        @Override
+        int compareTo(Delayed other) {
+            Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS))
+        }
+
+        @Override
+        boolean cancel(boolean mayInterruptIfRunning) {
+            if (done) {
+                return false
+            }
+            cancelled = true
+        }
+
+        @Override
+        boolean isCancelled() {
+            cancelled
+        }
+
+        @Override
+        boolean isDone() {
+            done || cancelled
+        }
+
+        @Override
+        Object get() {
+            null
+        }
+
+        @Override
+        Object get(long timeout, TimeUnit unit) {
+            null
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.micronaut.kubernetes.configuration
+
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.discovery.event.ServiceReadyEvent
+import io.micronaut.kubernetes.KubernetesConfiguration
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+import spock.lang.TempDir
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+class KubernetesMountedVolumeWatcherSpec extends Specification {
+
+    @TempDir
+    Path mountPath
+
+    @AutoCleanup("shutdownNow")
+    ExecutorService executorService = Executors.newSingleThreadExecutor()
+
+    AtomicInteger refreshes = new AtomicInteger()
+
+    KubernetesEnvironmentRefresher environmentRefresher = Stub(KubernetesEnvironmentRefresher) {
+        requestRefresh() >> { refreshes.incrementAndGet() }
+    }
+
+    @AutoCleanup
+    KubernetesMountedVolumeWatcher watcher
+
+    def cleanup() {
+        KubernetesConfigurationClient.propertySourceCache.keySet().removeIf { it.startsWith(mountPath.toString()) }
+    }
+
+    def "it reloads the ConfigMap files changed by the symlink swap"() {
+        given:
+        swapData("..2024_01", ["application.yml": "foo: bar", "other.yml": "other: value"])
+        Files.createSymbolicLink(mountPath.resolve("application.yml"), mountPath.resolve("..data/application.yml"))
+        Files.createSymbolicLink(mountPath.resolve("other.yml"), mountPath.resolve("..data/other.yml"))
+        startWatcher(false)
+
+        when:
+        swapData("..2024_02", ["application.yml": "foo: baz", "other.yml": "other: value"])
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            assert KubernetesConfigurationClient.propertySourceCache["$mountPath/application.yml (Kubernetes ConfigMap)"]?.get("foo") == "baz"
+            assert refreshes.get() > 0
+        }
+    }
+
+    def "it reloads the Secret when its file is modified"() {
+        given:
+        Files.writeString(mountPath.resolve("username"), "admin")
+        Files.writeString(mountPath.resolve("password"), "foo")
+        startWatcher(true)
+
+        when:
+        Files.writeString(mountPath.resolve("password"), "bar")
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            def propertySource = KubernetesConfigurationClient.propertySourceCache["$mountPath (Kubernetes Secret)"]
+            assert propertySource?.get("password") == "bar"
+            assert propertySource.get("username") == "admin"
+            assert refreshes.get() > 0
+        }
+    }
+
+    private void startWatcher(boolean secret) {
+        def configuration = new KubernetesConfiguration(() -> "default")
+        def mountConfiguration = secret ? configuration.secrets : configuration.configMaps
+        mountConfiguration.enabled = true
+        mountConfiguration.paths = [mountPath.toString()]
+        mountConfiguration.watchPaths = true
+        watcher = new KubernetesMountedVolumeWatcher(configuration, environmentRefresher, executorService)
+        watcher.onApplicationEvent(new ServiceReadyEvent(Stub(ServiceInstance)))
+    }
+
+    private void swapData(String directory, Map<String, String> files) {
+        def dataPath = Files.createDirectory(mountPath.resolve(directory))
+        files.each { name, content -> Files.writeString(dataPath.resolve(name), content) }
+        def tmpLink = Files.createSymbolicLink(mountPath.resolve("..data_tmp"), dataPath.fileName)
+        Files.move(tmpLink, mountPath.resolve("..data"), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING)
+    }
+}
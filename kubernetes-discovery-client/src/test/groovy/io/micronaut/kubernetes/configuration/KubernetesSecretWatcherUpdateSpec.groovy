@@ -0,0 +1,69 @@
+package io.micronaut.kubernetes.configuration
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta
+import io.kubernetes.client.openapi.models.V1Secret
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.discovery.event.ServiceReadyEvent
+import io.micronaut.kubernetes.KubernetesConfiguration
+import spock.lang.Specification
+
+class KubernetesSecretWatcherUpdateSpec extends Specification {
+
+    KubernetesEnvironmentRefresher environmentRefresher = Mock(KubernetesEnvironmentRefresher)
+
+    KubernetesConfiguration configuration = new KubernetesConfiguration(() -> "default")
+
+    KubernetesSecretWatcher watcher = new KubernetesSecretWatcher(configuration, environmentRefresher)
+
+    def setup() {
+        watcher.onApplicationEvent(new ServiceReadyEvent(Stub(ServiceInstance)))
+    }
+
+    def cleanup() {
+        KubernetesConfigurationClient.removeSecretVersion("update-spec")
+        KubernetesConfigurationClient.removePropertySourceFromCache("update-spec (Kubernetes Secret)")
+    }
+
+    def "it refreshes the environment when the data of the Secret changes"() {
+        when:
+        watcher.onAdd(secret("1", [password: "foo"]))
+        watcher.onUpdate(secret("1", [password: "foo"]), secret("2", [password: "foo"]))
+        watcher.onUpdate(secret("2", [password: "foo"]), secret("3", [password: "bar"]))
+
+        then:
+        2 * environmentRefresher.requestRefresh()
+        KubernetesConfigurationClient.propertySourceCache["update-spec (Kubernetes Secret)"].get("password") == "bar"
+    }
+
+    def "it removes the property source of the deleted Secret"() {
+        given:
+        def deleted = secret("1", [password: "foo"])
+
+        when:
+        watcher.onAdd(deleted)
+        watcher.onDelete(deleted, false)
+
+        then:
+        2 * environmentRefresher.requestRefresh()
+        !KubernetesConfigurationClient.propertySourceCache.containsKey("update-spec (Kubernetes Secret)")
+    }
+
+    def "it ignores the Secrets which aren't Opaque or don't match the filters"() {
+        given:
+        configuration.secrets.excludes = ["excluded"]
+
+        when:
+        watcher.onAdd(secret("1", [password: "foo"]).type("kubernetes.io/tls"))
+        watcher.onAdd(secret("1", [password: "foo"]).metadata(new V1ObjectMeta().name("excluded").resourceVersion("1")))
+
+        then:
+        0 * environmentRefresher.requestRefresh()
+    }
+
+    private static V1Secret secret(String resourceVersion, Map<String, String> data) {
+        new V1Secret()
+                .metadata(new V1ObjectMeta().name("update-spec").resourceVersion(resourceVersion))
+                .type("Opaque")
+                .data(data.collectEntries { k, v -> [(k): v.bytes] } as Map<String, byte[]>)
+    }
+}
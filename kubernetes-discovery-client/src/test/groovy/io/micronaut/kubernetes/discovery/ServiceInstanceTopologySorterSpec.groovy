@@ -0,0 +1,146 @@
+package io.micronaut.kubernetes.discovery
+
+import io.kubernetes.client.openapi.models.V1Node
+import io.kubernetes.client.openapi.models.V1ObjectMeta
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.kubernetes.KubernetesConfiguration
+import io.micronaut.kubernetes.client.PodNameResolver
+import io.micronaut.kubernetes.client.reactor.CoreV1ApiReactorClient
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.concurrent.TimeUnit
+
+import static io.micronaut.kubernetes.KubernetesConfiguration.KubernetesDiscoveryConfiguration.TopologyMode.DISABLED
+import static io.micronaut.kubernetes.KubernetesConfiguration.KubernetesDiscoveryConfiguration.TopologyMode.FILTER
+import static io.micronaut.kubernetes.KubernetesConfiguration.KubernetesDiscoveryConfiguration.TopologyMode.ORDER
+
+class ServiceInstanceTopologySorterSpec extends Specification {
+
+    @Unroll
+    void "it applies topology mode #mode"() {
+        given:
+        def sorter = sorter(mode, "zone-a", Stub(CoreV1ApiReactorClient))
+        def instances = [
+                instance("10.0.0.1", ["topology.kubernetes.io/zone": "zone-b"]),
+                instance("10.0.0.2", ["topology.kubernetes.io/zone": "zone-a"]),
+                instance("10.0.0.3", ["topology.kubernetes.io/zone": "zone-b", "discovery.k8s.io/for-zones": "zone-a,zone-c"]),
+                instance("10.0.0.4", [:])
+        ]
+
+        expect:
+        Flux.from(sorter.apply(Flux.just(instances))).blockFirst()*.host == expected
+
+        where:
+        mode     | expected
+        DISABLED | ["10.0.0.1", "10.0.0.2", "10.0.0.3", "10.0.0.4"]
+        ORDER    | ["10.0.0.2", "10.0.0.3", "10.0.0.1", "10.0.0.4"]
+        FILTER   | ["10.0.0.2", "10.0.0.3"]
+    }
+
+    void "it returns all instances when there is none in the same zone"() {
+        given:
+        def sorter = sorter(FILTER, "zone-c", Stub(CoreV1ApiReactorClient))
+        def instances = [
+                instance("10.0.0.1", ["topology.kubernetes.io/zone": "zone-b"]),
+                instance("10.0.0.2", ["topology.kubernetes.io/zone": "zone-a"])
+        ]
+
+        expect:
+        Flux.from(sorter.apply(Flux.just(instances))).blockFirst()*.host == ["10.0.0.1", "10.0.0.2"]
+    }
+
+    void "it resolves the zone of the instance from its node just once"() {
+        given:
+        def client = Mock(CoreV1ApiReactorClient)
+        def sorter = sorter(ORDER, "zone-a", client)
+        def instances = [
+                instance("10.0.0.1", ["kubernetes.io/hostname": "node-b"]),
+                instance("10.0.0.2", ["kubernetes.io/hostname": "node-a"])
+        ]
+
+        when:
+        def first = Flux.from(sorter.apply(Flux.just(instances))).blockFirst()
+        def second = Flux.from(sorter.apply(Flux.just(instances))).blockFirst()
+
+        then:
+        1 * client.readNode("node-a", null) >> Mono.just(node("zone-a"))
+        1 * client.readNode("node-b", null) >> Mono.just(node("zone-b"))
+        first*.host == ["10.0.0.2", "10.0.0.1"]
+        second*.host == ["10.0.0.2", "10.0.0.1"]
+    }
+
+    void "it retries the node that failed to be read only after the retry interval"() {
+        given:
+        def client = Mock(CoreV1ApiReactorClient)
+        def sorter = sorter(ORDER, "zone-a", client)
+        def instances = [
+                instance("10.0.0.1", ["kubernetes.io/hostname": "node-b"]),
+                instance("10.0.0.2", ["kubernetes.io/hostname": "node-a"])
+        ]
+
+        when:
+        def first = Flux.from(sorter.apply(Flux.just(instances))).blockFirst()
+
+        then:
+        1 * client.readNode("node-a", null) >> Mono.error(new IllegalStateException("forbidden"))
+        1 * client.readNode("node-b", null) >> Mono.just(node("zone-b"))
+        first*.host == ["10.0.0.1", "10.0.0.2"]
+
+        when: "the failed read is not repeated within the retry interval"
+        def second = Flux.from(sorter.apply(Flux.just(instances))).blockFirst()
+
+        then:
+        0 * client.readNode(*_)
+        second*.host == ["10.0.0.1", "10.0.0.2"]
+
+        when: "the failed read isn't remembered as the node without zone"
+        sorter.evictNodeZones(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1) + 1)
+        def third = Flux.from(sorter.apply(Flux.just(instances))).blockFirst()
+
+        then:
+        1 * client.readNode("node-a", null) >> Mono.just(node("zone-a"))
+        1 * client.readNode("node-b", null) >> Mono.just(node("zone-b"))
+        third*.host == ["10.0.0.2", "10.0.0.1"]
+    }
+
+    void "it evicts the zones of the nodes that are no longer seen"() {
+        given:
+        def client = Mock(CoreV1ApiReactorClient)
+        def sorter = sorter(ORDER, "zone-a", client)
+        def instances = [instance("10.0.0.1", ["kubernetes.io/hostname": "node-a"])]
+
+        when:
+        Flux.from(sorter.apply(Flux.just(instances))).blockFirst()
+        sorter.evictNodeZones(System.currentTimeMillis() - 60_000)
+        Flux.from(sorter.apply(Flux.just(instances))).blockFirst()
+
+        then:
+        1 * client.readNode("node-a", null) >> Mono.just(node("zone-a"))
+
+        when:
+        sorter.evictNodeZones(System.currentTimeMillis() + 1)
+        Flux.from(sorter.apply(Flux.just(instances))).blockFirst()
+
+        then:
+        1 * client.readNode("node-a", null) >> Mono.just(node("zone-a"))
+    }
+
+    private ServiceInstanceTopologySorter sorter(KubernetesConfiguration.KubernetesDiscoveryConfiguration.TopologyMode mode,
+                                                 String zone, CoreV1ApiReactorClient client) {
+        def configuration = new KubernetesConfiguration(() -> "default")
+        configuration.discovery.topologyMode = mode
+        configuration.discovery.zone = zone
+        new ServiceInstanceTopologySorter(client, configuration, Stub(PodNameResolver))
+    }
+
+    private static ServiceInstance instance(String address, Map<String, String> metadata) {
+        ServiceInstance.builder("example-service", new URI("http://$address:8080")).metadata(metadata).build()
+    }
+
+    private static V1Node node(String zone) {
+        new V1Node().metadata(new V1ObjectMeta().labels(["topology.kubernetes.io/zone": zone]))
+    }
+}
@@ -0,0 +1,110 @@
+package io.micronaut.kubernetes.discovery.informer
+
+import io.kubernetes.client.informer.cache.Cache
+import io.kubernetes.client.informer.cache.Caches
+import io.kubernetes.client.openapi.models.V1EndpointSlice
+import io.kubernetes.client.openapi.models.V1ObjectMeta
+import io.kubernetes.client.openapi.models.V1OwnerReference
+import io.micronaut.kubernetes.client.informer.InformerIndexer
+import io.micronaut.kubernetes.discovery.provider.EndpointSliceServiceNameIndexer
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.function.Function
+
+class IndexerCompositeSpec extends Specification {
+
+    def indexer = new EndpointSliceServiceNameIndexer()
+
+    def "it retrieves the resources by the registered index"() {
+        given:
+        def cache = new Cache<V1EndpointSlice>(Caches.NAMESPACE_INDEX, Caches::metaNamespaceIndexFunc, Caches::deletionHandlingMetaNamespaceKeyFunc)
+        cache.addIndexers([(indexer.name): { indexer.index(it) } as Function])
+        def composite = composite(cache)
+
+        expect:
+        composite.getResources("default", indexer, "foo").collectList().block()*.metadata*.name.sort() == ["foo-1", "foo-2"]
+        composite.getResources("default", indexer, "bar").collectList().block()*.metadata*.name == ["bar-1"]
+        composite.getResources("default", indexer, "baz").collectList().block().isEmpty()
+        composite.getResources("other", indexer, "foo").collectList().block().isEmpty()
+    }
+
+    def "it filters the resources when the index isn't registered"() {
+        given:
+        def composite = composite(new Cache<V1EndpointSlice>())
+
+        expect:
+        composite.getResources("default", indexer, "foo").collectList().block()*.metadata*.name.sort() == ["foo-1", "foo-2"]
+    }
+
+    def "it retrieves the resources of the namespace from the indexer shared by the namespaces"() {
+        given:
+        def cache = new Cache<V1EndpointSlice>(Caches.NAMESPACE_INDEX, Caches::metaNamespaceIndexFunc, Caches::deletionHandlingMetaNamespaceKeyFunc)
+        cache.addIndexers([(indexer.name): { indexer.index(it) } as Function])
+        def composite = composite(cache)
+        cache.add(new V1EndpointSlice().metadata(new V1ObjectMeta().name("foo-3").namespace("other")
+                .labels(["kubernetes.io/service-name": "foo"])))
+        composite.add("other", cache)
+
+        expect:
+        composite.getResources("default").collectList().block().size() == 4
+        composite.getResources("other").collectList().block()*.metadata*.name == ["foo-3"]
+        composite.getResources("other", indexer, "foo").collectList().block()*.metadata*.name == ["foo-3"]
+        composite.getResources("default", indexer, "foo").collectList().block()*.metadata*.name.sort() == ["foo-1", "foo-2"]
+        composite.getResource("foo-3", "other").block().metadata.name == "foo-3"
+        composite.getResource("foo-3", "default").block() == null
+    }
+
+    def "it looks up the resources once the awaited future completed"() {
+        given:
+        def cache = new Cache<V1EndpointSlice>()
+        def composite = composite(cache)
+        def awaited = new CompletableFuture<Void>()
+        composite.setAwaited(awaited)
+        def resources = composite.getResources("default").collectList().toFuture()
+        def resource = composite.getResource("foo-1", "default").toFuture()
+        def indexed = composite.getResources("default", indexer, "bar").collectList().toFuture()
+        cache.add(slice("foo-3", "foo"))
+
+        expect:
+        !resources.isDone()
+        !resource.isDone()
+        !indexed.isDone()
+
+        when:
+        awaited.complete(null)
+
+        then:
+        resources.get()*.metadata*.name.sort() == ["bar-1", "foo-1", "foo-2", "foo-3", "unlabeled"]
+        resource.get().metadata.name == "foo-1"
+        indexed.get()*.metadata*.name == ["bar-1"]
+        composite.getResources("default").collectList().toFuture().isDone()
+    }
+
+    def "it indexes the resources by the owner reference uids"() {
+        given:
+        def ownerIndexer = InformerIndexer.byOwnerReferenceUid(V1EndpointSlice)
+        def slice = new V1EndpointSlice().metadata(new V1ObjectMeta().name("foo-1")
+                .ownerReferences([new V1OwnerReference().uid("1"), new V1OwnerReference().uid("2")]))
+
+        expect:
+        ownerIndexer.name == InformerIndexer.OWNER_REFERENCE_UID_INDEX
+        ownerIndexer.index(slice) == ["1", "2"]
+        ownerIndexer.index(new V1EndpointSlice().metadata(new V1ObjectMeta().name("bar"))).isEmpty()
+    }
+
+    private static IndexerComposite<V1EndpointSlice> composite(Cache<V1EndpointSlice> cache) {
+        cache.add(slice("foo-1", "foo"))
+        cache.add(slice("foo-2", "foo"))
+        cache.add(slice("bar-1", "bar"))
+        cache.add(new V1EndpointSlice().metadata(new V1ObjectMeta().name("unlabeled").namespace("default")))
+        def composite = new IndexerComposite<V1EndpointSlice>()
+        composite.add("default", cache)
+        composite
+    }
+
+    private static V1EndpointSlice slice(String name, String serviceName) {
+        new V1EndpointSlice().metadata(new V1ObjectMeta().name(name).namespace("default")
+                .labels(["kubernetes.io/service-name": serviceName]))
+    }
+}
@@ -0,0 +1,89 @@
+package io.micronaut.kubernetes.discovery.informer
+
+import io.kubernetes.client.openapi.models.V1Endpoints
+import io.kubernetes.client.openapi.models.V1ObjectMeta
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.kubernetes.discovery.KubernetesServiceConfiguration
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+class ServiceInstanceCacheSpec extends Specification {
+
+    def serviceConfiguration = new KubernetesServiceConfiguration("example-service", "example-service", "micronaut-kubernetes")
+
+    def "it computes the instances just once until the resource changes"() {
+        given:
+        def cache = new ServiceInstanceCache<V1Endpoints>()
+        def loads = 0
+        def loader = {
+            loads++
+            Flux.just([ServiceInstance.of("example-service", new URI("http://10.0.0.1:8080"))])
+        }
+
+        when:
+        def first = Flux.from(cache.getInstances(serviceConfiguration, loader)).blockFirst()
+        def second = Flux.from(cache.getInstances(serviceConfiguration, loader)).blockFirst()
+
+        then:
+        loads == 1
+        first.size() == 1
+        second.is(first)
+
+        when: "resync delivers the same resource version"
+        cache.onUpdate(endpoints("example-service", "1"), endpoints("example-service", "1"))
+        Flux.from(cache.getInstances(serviceConfiguration, loader)).blockFirst()
+
+        then:
+        loads == 1
+
+        when: "the resource changes"
+        cache.onUpdate(endpoints("example-service", "1"), endpoints("example-service", "2"))
+        Flux.from(cache.getInstances(serviceConfiguration, loader)).blockFirst()
+
+        then:
+        loads == 2
+
+        when: "other resource is deleted"
+        cache.onDelete(endpoints("other-service", "1"), false)
+        Flux.from(cache.getInstances(serviceConfiguration, loader)).blockFirst()
+
+        then:
+        loads == 2
+
+        when: "the resource is deleted"
+        cache.onDelete(endpoints("example-service", "2"), false)
+        Flux.from(cache.getInstances(serviceConfiguration, loader)).blockFirst()
+
+        then:
+        loads == 3
+    }
+
+    def "it does not cache instances computed from a resource changed during the computation"() {
+        given:
+        def cache = new ServiceInstanceCache<V1Endpoints>()
+        def loads = 0
+        def loader = {
+            loads++
+            Flux.defer {
+                if (loads == 1) {
+                    cache.onAdd(endpoints("example-service", "1"))
+                }
+                Flux.just([ServiceInstance.of("example-service", new URI("http://10.0.0.1:8080"))])
+            }
+        }
+
+        when:
+        Flux.from(cache.getInstances(serviceConfiguration, loader)).blockFirst()
+        Flux.from(cache.getInstances(serviceConfiguration, loader)).blockFirst()
+
+        then:
+        loads == 2
+    }
+
+    private static V1Endpoints endpoints(String name, String resourceVersion) {
+        new V1Endpoints().metadata(new V1ObjectMeta()
+                .name(name)
+                .namespace("micronaut-kubernetes")
+                .resourceVersion(resourceVersion))
+    }
+}
@@ -0,0 +1,125 @@
+package io.micronaut.kubernetes.discovery.provider
+
+import io.kubernetes.client.openapi.models.DiscoveryV1EndpointPort
+import io.kubernetes.client.openapi.models.V1Endpoint
+import io.kubernetes.client.openapi.models.V1EndpointConditions
+import io.kubernetes.client.openapi.models.V1EndpointSlice
+import io.kubernetes.client.openapi.models.V1ObjectMeta
+import io.micronaut.kubernetes.KubernetesConfiguration
+import io.micronaut.kubernetes.discovery.KubernetesServiceConfiguration
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static io.micronaut.kubernetes.KubernetesConfiguration.KubernetesDiscoveryConfiguration.ReadinessPolicy.INCLUDE_SERVING_TERMINATING
+import static io.micronaut.kubernetes.KubernetesConfiguration.KubernetesDiscoveryConfiguration.ReadinessPolicy.PUBLISH_NOT_READY
+import static io.micronaut.kubernetes.KubernetesConfiguration.KubernetesDiscoveryConfiguration.ReadinessPolicy.READY_ONLY
+
+class AbstractV1EndpointSliceProviderSpec extends Specification {
+
+    def "it merges the endpoints of all slices of the service"() {
+        given:
+        def provider = provider([
+                slice("example-service-abc", "example-service", "IPv4", endpoint("10.0.0.1", true), endpoint("10.0.0.2", null)),
+                slice("example-service-def", "example-service", "IPv4", endpoint("10.0.0.2", true), endpoint("10.0.0.3", false)),
+                slice("example-service-ghi", "example-service", "IPv6", endpoint("fd00::1", true)),
+                slice("other-service-abc", "other-service", "IPv4", endpoint("10.0.1.1", true))
+        ])
+
+        when:
+        def instances = Flux.from(provider.getInstances(
+                new KubernetesServiceConfiguration("example-service", "example-service", "micronaut-kubernetes"))).blockFirst()
+
+        then:
+        instances*.URI*.toString() == ["http://10.0.0.1:8080", "http://10.0.0.2:8080", "http://[fd00::1]:8080"]
+        instances.every { it.id == "example-service" }
+    }
+
+    @Unroll
+    def "it discovers endpoints by readiness policy #policy"() {
+        given:
+        def discoveryConfiguration = new KubernetesConfiguration.KubernetesDiscoveryConfiguration()
+        discoveryConfiguration.readinessPolicy = policy
+        def provider = provider([
+                slice("example-service-abc", "example-service", "IPv4",
+                        endpoint("10.0.0.1", ready, false, false),
+                        endpoint("10.0.0.2", false, true, true),
+                        endpoint("10.0.0.3", false, false, false))
+        ], discoveryConfiguration)
+
+        when:
+        def instances = Flux.from(provider.getInstances(
+                new KubernetesServiceConfiguration("example-service", "example-service", "micronaut-kubernetes"))).blockFirst()
+
+        then:
+        instances*.URI*.host == expected
+        instances.every { it.metadata.get("discovery.k8s.io/ready", String).isPresent() }
+
+        where:
+        policy                      | ready | expected
+        READY_ONLY                  | true  | ["10.0.0.1"]
+        READY_ONLY                  | false | []
+        INCLUDE_SERVING_TERMINATING | true  | ["10.0.0.1"]
+        INCLUDE_SERVING_TERMINATING | false | ["10.0.0.2"]
+        PUBLISH_NOT_READY           | false | ["10.0.0.1", "10.0.0.2", "10.0.0.3"]
+    }
+
+    def "the service readiness policy overrides the global one"() {
+        given:
+        def provider = provider([
+                slice("example-service-abc", "example-service", "IPv4", endpoint("10.0.0.1", true), endpoint("10.0.0.2", false))
+        ])
+        def serviceConfiguration = new KubernetesServiceConfiguration("example-service", "example-service", "micronaut-kubernetes")
+        serviceConfiguration.readinessPolicy = PUBLISH_NOT_READY
+
+        when:
+        def instances = Flux.from(provider.getInstances(serviceConfiguration)).blockFirst()
+
+        then:
+        instances*.URI*.host == ["10.0.0.1", "10.0.0.2"]
+        instances*.metadata*.get("discovery.k8s.io/ready", String)*.get() == ["true", "false"]
+    }
+
+    def "it lists the service ids from the slices"() {
+        given:
+        def provider = provider([
+                slice("example-service-abc", "example-service", "IPv4", endpoint("10.0.0.1", true)),
+                slice("example-service-def", "example-service", "IPv4", endpoint("10.0.0.2", true)),
+                slice("other-service-abc", "other-service", "IPv4", endpoint("10.0.1.1", true)),
+                slice("unmanaged", null, "IPv4", endpoint("10.0.2.1", true))
+        ])
+
+        expect:
+        Flux.from(provider.getServiceIds("micronaut-kubernetes")).collectList().block() == ["example-service", "other-service"]
+    }
+
+    private static AbstractV1EndpointSliceProvider provider(List<V1EndpointSlice> slices,
+                                                            KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration = new KubernetesConfiguration.KubernetesDiscoveryConfiguration()) {
+        new AbstractV1EndpointSliceProvider(discoveryConfiguration) {
+            @Override
+            Flux<V1EndpointSlice> getEndpointSlices(String serviceName, String namespace) {
+                Flux.fromIterable(slices).filter { serviceNameOrNull(it) == serviceName }
+            }
+
+            @Override
+            Flux<V1EndpointSlice> listEndpointSlices(String namespace) {
+                Flux.fromIterable(slices)
+            }
+        }
+    }
+
+    private static V1EndpointSlice slice(String name, String serviceName, String addressType, V1Endpoint... endpoints) {
+        def labels = serviceName ? [(AbstractV1EndpointSliceProvider.SERVICE_NAME_LABEL): serviceName] : [:]
+        new V1EndpointSlice()
+                .metadata(new V1ObjectMeta().name(name).namespace("micronaut-kubernetes").labels(labels))
+                .addressType(addressType)
+                .ports([new DiscoveryV1EndpointPort().name("http").port(8080)])
+                .endpoints(endpoints.toList())
+    }
+
+    private static V1Endpoint endpoint(String address, Boolean ready, Boolean serving = null, Boolean terminating = null) {
+        new V1Endpoint()
+                .addresses([address])
+                .conditions(new V1EndpointConditions().ready(ready).serving(serving).terminating(terminating))
+    }
+}
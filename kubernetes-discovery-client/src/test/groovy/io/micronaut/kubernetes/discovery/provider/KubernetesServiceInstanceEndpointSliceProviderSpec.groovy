@@ -0,0 +1,118 @@
+package io.micronaut.kubernetes.discovery.provider
+
+import io.kubernetes.client.informer.cache.Cache
+import io.kubernetes.client.openapi.models.V1EndpointSlice
+import io.kubernetes.client.openapi.models.V1EndpointSliceList
+import io.kubernetes.client.openapi.models.V1ListMeta
+import io.kubernetes.client.openapi.models.V1ObjectMeta
+import io.micronaut.kubernetes.KubernetesConfiguration
+import io.micronaut.kubernetes.client.informer.PartialObjectMetadata
+import io.micronaut.kubernetes.client.reactor.DiscoveryV1ApiReactorClient
+import io.micronaut.kubernetes.discovery.informer.IndexerComposite
+import io.micronaut.kubernetes.discovery.informer.IndexerCompositeFactory
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+class KubernetesServiceInstanceEndpointSliceProviderSpec extends Specification {
+
+    def "it lists the service ids from the metadata informer"() {
+        given:
+        def client = Mock(DiscoveryV1ApiReactorClient)
+        def cache = new Cache<PartialObjectMetadata>()
+        cache.add(metadata("example-service-abc", "example-service", [app: "example"]))
+        cache.add(metadata("example-service-def", "example-service", [app: "example"]))
+        cache.add(metadata("other-service-abc", "other-service", [app: "other"]))
+        def indexerComposite = new IndexerComposite<PartialObjectMetadata>()
+        indexerComposite.add("default", cache)
+        def indexerCompositeFactory = Mock(IndexerCompositeFactory)
+        def discoveryConfiguration = discoveryConfiguration(true)
+        discoveryConfiguration.labels = [app: "example"]
+
+        when:
+        def provider = new KubernetesServiceInstanceEndpointSliceProvider(client, new KubernetesConfiguration(() -> "default"),
+                discoveryConfiguration, indexerCompositeFactory)
+
+        then:
+        1 * indexerCompositeFactory.createMetadataInformersFor(V1EndpointSlice, "endpointslices", "discovery.k8s.io", ["default"] as Set) >> indexerComposite
+
+        when:
+        def serviceIds = Flux.from(provider.getServiceIds("default")).collectList().block()
+
+        then:
+        serviceIds == ["example-service"]
+        0 * client._
+    }
+
+    def "it lists the service ids from the API until the metadata informer synced up"() {
+        given:
+        def client = Stub(DiscoveryV1ApiReactorClient) {
+            listNamespacedEndpointSlice(*_) >> Mono.just(new V1EndpointSliceList()
+                    .metadata(new V1ListMeta())
+                    .items([new V1EndpointSlice().metadata(new V1ObjectMeta()
+                            .name("api-service-abc")
+                            .namespace("default")
+                            .labels([(AbstractV1EndpointSliceProvider.SERVICE_NAME_LABEL): "api-service"]))]))
+        }
+        def cache = new Cache<PartialObjectMetadata>()
+        cache.add(metadata("example-service-abc", "example-service", [:]))
+        def synced = new CompletableFuture<Void>()
+        def indexerComposite = new IndexerComposite<PartialObjectMetadata>()
+        indexerComposite.add("default", cache)
+        indexerComposite.setSynced(synced)
+        def indexerCompositeFactory = Stub(IndexerCompositeFactory) {
+            createMetadataInformersFor(*_) >> indexerComposite
+        }
+        def provider = new KubernetesServiceInstanceEndpointSliceProvider(client, new KubernetesConfiguration(() -> "default"),
+                discoveryConfiguration(true), indexerCompositeFactory)
+
+        expect:
+        Flux.from(provider.getServiceIds("default")).collectList().block() == ["api-service"]
+
+        when:
+        synced.complete(null)
+
+        then:
+        Flux.from(provider.getServiceIds("default")).collectList().block() == ["example-service"]
+    }
+
+    def "it lists the service ids from the API when the metadata informer is disabled"() {
+        given:
+        def client = Stub(DiscoveryV1ApiReactorClient) {
+            listNamespacedEndpointSlice(*_) >> Mono.just(new V1EndpointSliceList()
+                    .metadata(new V1ListMeta())
+                    .items([new V1EndpointSlice().metadata(new V1ObjectMeta()
+                            .name("example-service-abc")
+                            .namespace("default")
+                            .labels([(AbstractV1EndpointSliceProvider.SERVICE_NAME_LABEL): "example-service"]))]))
+        }
+        def indexerCompositeFactory = Mock(IndexerCompositeFactory)
+
+        when:
+        def provider = new KubernetesServiceInstanceEndpointSliceProvider(client, new KubernetesConfiguration(() -> "default"),
+                discoveryConfiguration(false), indexerCompositeFactory)
+        def serviceIds = Flux.from(provider.getServiceIds("default")).collectList().block()
+
+        then:
+        serviceIds == ["example-service"]
+        0 * indexerCompositeFactory._
+    }
+
+    private static KubernetesConfiguration.KubernetesDiscoveryConfiguration discoveryConfiguration(boolean watchServiceIds) {
+        def discoveryConfiguration = new KubernetesConfiguration.KubernetesDiscoveryConfiguration()
+        discoveryConfiguration.mode = AbstractV1EndpointSliceProvider.MODE
+        discoveryConfiguration.watchServiceIds = watchServiceIds
+        discoveryConfiguration
+    }
+
+    private static PartialObjectMetadata metadata(String name, String serviceName, Map<String, String> labels) {
+        new PartialObjectMetadata()
+                .kind("PartialObjectMetadata")
+                .metadata(new V1ObjectMeta()
+                        .name(name)
+                        .namespace("default")
+                        .labels([(AbstractV1EndpointSliceProvider.SERVICE_NAME_LABEL): serviceName] + labels))
+    }
+}
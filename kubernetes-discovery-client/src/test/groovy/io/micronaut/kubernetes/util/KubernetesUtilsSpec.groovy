@@ -0,0 +1,139 @@
+package io.micronaut.kubernetes.util
+
+import io.kubernetes.client.openapi.ApiException
+import io.kubernetes.client.openapi.models.V1ConfigMap
+import io.kubernetes.client.openapi.models.V1ConfigMapList
+import io.kubernetes.client.openapi.models.V1ListMeta
+import io.kubernetes.client.openapi.models.V1ObjectMeta
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+class KubernetesUtilsSpec extends Specification {
+
+    def "the property sources parsed from the same contents don't share the data"() {
+        given:
+        def first = configMap("first", "1")
+        def second = configMap("second", "2")
+
+        when:
+        def firstPropertySource = KubernetesUtils.configMapAsPropertySource(first)
+        def secondPropertySource = KubernetesUtils.configMapAsPropertySource(second)
+
+        then:
+        firstPropertySource.get("greeting") == "héllo wörld"
+        secondPropertySource.get("greeting") == "héllo wörld"
+        firstPropertySource.get("configMapResourceVersion") == "1"
+        secondPropertySource.get("configMapResourceVersion") == "2"
+    }
+
+    def "the mounted files are parsed by the reader of their extension"() {
+        when:
+        def propertySources = KubernetesUtils.configMapAsPropertySource("/etc/config", [
+                "application.yml"       : "greeting: héllo wörld",
+                "application.properties": "greeting=hello",
+                "application.unknown"   : "greeting: ignored",
+        ])
+
+        then:
+        propertySources.find { it.name == "/etc/config/application.yml (Kubernetes ConfigMap)" }.get("greeting") == "héllo wörld"
+        propertySources.find { it.name == "/etc/config/application.properties (Kubernetes ConfigMap)" }.get("greeting") == "hello"
+        !propertySources.any { it.name.contains("application.unknown") }
+    }
+
+    def "it lists the pages by following the continue token"() {
+        given:
+        def requests = []
+        def pages = [
+                (null)  : page("second", "a", "b"),
+                "second": page("third", "c", "d"),
+                "third" : page(null, "e")
+        ]
+
+        when:
+        def items = KubernetesUtils.listPages({ String continueToken, Integer limit ->
+            requests << [continueToken, limit]
+            Mono.just(pages[continueToken])
+        }, 2).flatMapIterable { it.items }.collectList().block()
+
+        then:
+        items*.metadata*.name == ["a", "b", "c", "d", "e"]
+        requests == [[null, 2], ["second", 2], ["third", 2]]
+    }
+
+    def "it lists all the resources at once when the page size isn't positive"() {
+        given:
+        def requests = []
+
+        when:
+        def items = KubernetesUtils.listPages({ String continueToken, Integer limit ->
+            requests << [continueToken, limit]
+            Mono.just(page(null, "a", "b"))
+        }, 0).flatMapIterable { it.items }.collectList().block()
+
+        then:
+        items.size() == 2
+        requests == [[null, null]]
+    }
+
+    def "it lists all the pages again when the continue token expired"() {
+        given:
+        def requests = []
+        def expired = true
+        def pages = [(null): page("second", "a", "b"), "second": page(null, "c")]
+
+        when:
+        def items = KubernetesUtils.listAllPages({ String continueToken, Integer limit ->
+            requests << continueToken
+            if (continueToken == "second" && expired) {
+                expired = false
+                return Mono.error(new ApiException(410, "Expired"))
+            }
+            Mono.just(pages[continueToken])
+        }, 2).flatMapIterable { it.items }.collectList().block()
+
+        then:
+        items*.metadata*.name == ["a", "b", "c"]
+        requests == [null, "second", null, "second"]
+    }
+
+    def "it emits no page when the listing of all the pages fails"() {
+        given:
+        def emitted = []
+        Throwable error = null
+
+        when:
+        KubernetesUtils.listAllPages({ String continueToken, Integer limit ->
+            continueToken == null ? Mono.just(page("second", "a", "b")) : Mono.error(new ApiException(500, "Failed"))
+        }, 2).doOnNext { emitted << it }.doOnError { error = it }.onErrorResume { Mono.empty() }.collectList().block()
+
+        then:
+        error instanceof ApiException
+        (error as ApiException).code == 500
+        emitted.isEmpty()
+    }
+
+    def "it computes the field selector of the includes and excludes"() {
+        expect:
+        KubernetesUtils.computeFieldSelector(includes, excludes, fieldSelectors as String[]) == fieldSelector
+
+        where:
+        includes   | excludes   | fieldSelectors  || fieldSelector
+        []         | []         | []              || null
+        ["a"]      | []         | []              || "metadata.name=a"
+        ["a", "b"] | []         | []              || null
+        []         | ["a", "b"] | []              || "metadata.name!=a,metadata.name!=b"
+        ["a"]      | ["b"]      | ["type=Opaque"] || "type=Opaque,metadata.name=a,metadata.name!=b"
+    }
+
+    private static V1ConfigMapList page(String continueToken, String... names) {
+        new V1ConfigMapList()
+                .metadata(new V1ListMeta()._continue(continueToken))
+                .items(names.collect { new V1ConfigMap().metadata(new V1ObjectMeta().name(it)) })
+    }
+
+    private static V1ConfigMap configMap(String name, String resourceVersion) {
+        new V1ConfigMap()
+                .metadata(new V1ObjectMeta().name(name).resourceVersion(resourceVersion))
+                .data(["application.yml": "greeting: héllo wörld"])
+    }
+}
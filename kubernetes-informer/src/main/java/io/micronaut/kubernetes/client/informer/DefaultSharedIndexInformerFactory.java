@@ -22,33 +22,56 @@ import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.informer.ListerWatcher;
 import io.kubernetes.client.informer.SharedIndexInformer;
 import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.informer.TransformFunc;
 import io.kubernetes.client.informer.cache.Cache;
 import io.kubernetes.client.informer.cache.Caches;
 import io.kubernetes.client.informer.impl.DefaultSharedIndexInformer;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.Pair;
 import io.kubernetes.client.openapi.apis.CustomObjectsApi;
 import io.kubernetes.client.util.CallGeneratorParams;
 import io.kubernetes.client.util.Namespaces;
+import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.Watchable;
 import io.kubernetes.client.util.generic.GenericKubernetesApi;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.kubernetes.client.ApiClientConfiguration;
 import io.micronaut.kubernetes.client.ModelMapper;
+import io.micronaut.kubernetes.client.VirtualThreads;
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
+import okhttp3.Call;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 /**
  * Default implementation of the {@link SharedIndexInformerFactory}. The created {@link SharedIndexInformer} is shared
@@ -67,6 +90,9 @@ public class DefaultSharedIndexInformerFactory extends SharedInformerFactory imp
 
     private final InformerConfiguration informerConfiguration;
     private final Provider<ApiClient> apiClient;
+    private final List<InformerIndexer<?>> indexers;
+    private final List<InformerTransformer<?>> transformers;
+    private final Map<SharedIndexInformer<?>, InformerListWatchStatistics> listWatchStatistics = new ConcurrentHashMap<>();
 
     /**
      * Creates {@link DefaultSharedIndexInformer}.
@@ -88,11 +114,55 @@ public class DefaultSharedIndexInformerFactory extends SharedInformerFactory imp
      * @param apiClient             api client
      *
      * @since 3.4.0
+     * @deprecated Use new version {@link DefaultSharedIndexInformerFactory#DefaultSharedIndexInformerFactory(InformerConfiguration, ApiClientConfiguration, Provider, List, List)}
      */
-    @Inject
+    @Deprecated
     public DefaultSharedIndexInformerFactory(InformerConfiguration informerConfiguration, Provider<ApiClient> apiClient) {
+        this(informerConfiguration, null, apiClient, Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Creates {@link DefaultSharedIndexInformer}.
+     *
+     * @param informerConfiguration  informer configuration
+     * @param apiClientConfiguration api client configuration, the informers run on the virtual threads when its
+     *                               {@link ApiClientConfiguration#isVirtualThreads()} mode is enabled
+     * @param apiClient              api client
+     * @param indexers               the indexers registered to the caches of the created informers
+     * @param transformers           the transformers of the resources of the created informers
+     *
+     * @since 6.2
+     */
+    @Inject
+    public DefaultSharedIndexInformerFactory(InformerConfiguration informerConfiguration,
+                                             @Nullable ApiClientConfiguration apiClientConfiguration,
+                                             Provider<ApiClient> apiClient,
+                                             List<InformerIndexer<?>> indexers, List<InformerTransformer<?>> transformers) {
+        super(informerExecutor(apiClientConfiguration));
         this.apiClient = apiClient;
         this.informerConfiguration = informerConfiguration;
+        this.indexers = indexers;
+        this.transformers = new ArrayList<>(transformers);
+        if (informerConfiguration.isStripManagedFields()) {
+            this.transformers.add(InformerTransformer.stripManagedFields());
+        }
+        if (informerConfiguration.isStripLastAppliedConfiguration()) {
+            this.transformers.add(InformerTransformer.stripLastAppliedConfiguration());
+        }
+    }
+
+    @Override
+    public <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject> SharedIndexInformer<ApiType> sharedIndexInformerFor(
+            Class<ApiType> apiType,
+            Class<ApiListType> apiListType,
+            String resourcePlural,
+            String apiGroup,
+            @Nullable String namespace,
+            @Nullable String labelSelector,
+            @Nullable Long resyncCheckPeriod,
+            boolean waitForSync) {
+        return sharedIndexInformerFor(apiType, apiListType, resourcePlural, apiGroup, namespace, labelSelector, null,
+                resyncCheckPeriod, waitForSync);
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
@@ -104,9 +174,90 @@ public class DefaultSharedIndexInformerFactory extends SharedInformerFactory imp
             String apiGroup,
             @Nullable String namespace,
             @Nullable String labelSelector,
+            @Nullable String fieldSelector,
+            @Nullable Long resyncCheckPeriod,
+            boolean waitForSync) {
+
+        SharedIndexInformer<ApiType> informer = createSharedIndexInformer(apiType, apiListType, resourcePlural, apiGroup,
+                namespace, null, labelSelector, fieldSelector, resyncCheckPeriod);
+
+        startAllRegisteredInformers();
+
+        if (waitForSync) {
+            waitForSync(Collections.singletonMap(namespace == null ? Namespaces.NAMESPACE_ALL : namespace, informer), apiType);
+        }
+
+        return informer;
+    }
+
+    @Override
+    public <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject> List<SharedIndexInformer<? extends KubernetesObject>> sharedIndexInformersFor(
+            Class<ApiType> apiTypeClass,
+            Class<ApiListType> apiListTypeClass,
+            String resourcePlural,
+            String apiGroup,
+            @Nullable List<String> namespaces,
+            @Nullable String labelSelector,
+            @Nullable Long resyncCheckPeriod,
+            boolean waitForSync) {
+        return sharedIndexInformersFor(apiTypeClass, apiListTypeClass, resourcePlural, apiGroup, namespaces, labelSelector,
+                null, resyncCheckPeriod, waitForSync);
+    }
+
+    @Override
+    public <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject> List<SharedIndexInformer<? extends KubernetesObject>> sharedIndexInformersFor(
+            Class<ApiType> apiTypeClass,
+            Class<ApiListType> apiListTypeClass,
+            String resourcePlural,
+            String apiGroup,
+            @Nullable List<String> namespaces,
+            @Nullable String labelSelector,
+            @Nullable String fieldSelector,
             @Nullable Long resyncCheckPeriod,
             boolean waitForSync) {
 
+        if (namespaces == null) {
+            namespaces = Collections.singletonList(Namespaces.NAMESPACE_ALL);
+        }
+
+        Map<String, SharedIndexInformer<? extends KubernetesObject>> namespaceInformers = new LinkedHashMap<>(namespaces.size());
+        int allNamespacesThreshold = informerConfiguration.getAllNamespacesThreshold();
+        if (allNamespacesThreshold > 0 && namespaces.size() > allNamespacesThreshold && !namespaces.contains(Namespaces.NAMESPACE_ALL)) {
+            // single informer watches all the namespaces and keeps just the resources of the given namespaces
+            Set<String> watchedNamespaces = new TreeSet<>(namespaces);
+            namespaceInformers.put(watchedNamespaces.toString(), createSharedIndexInformer(
+                    apiTypeClass, apiListTypeClass, resourcePlural, apiGroup, Namespaces.NAMESPACE_ALL, watchedNamespaces,
+                    labelSelector, fieldSelector, resyncCheckPeriod));
+        } else {
+            // the informers of all the namespaces are created first, then started and synced up together
+            for (String namespace : namespaces) {
+                namespaceInformers.put(namespace, createSharedIndexInformer(
+                        apiTypeClass, apiListTypeClass, resourcePlural, apiGroup, namespace, null, labelSelector,
+                        fieldSelector, resyncCheckPeriod));
+            }
+        }
+
+        startAllRegisteredInformers();
+
+        if (waitForSync) {
+            waitForSync(namespaceInformers, apiTypeClass);
+        }
+
+        return new ArrayList<>(namespaceInformers.values());
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject> SharedIndexInformer<ApiType> createSharedIndexInformer(
+            Class<ApiType> apiType,
+            Class<ApiListType> apiListType,
+            String resourcePlural,
+            String apiGroup,
+            @Nullable String namespace,
+            @Nullable Set<String> watchedNamespaces,
+            @Nullable String labelSelector,
+            @Nullable String fieldSelector,
+            @Nullable Long resyncCheckPeriod) {
+
         Objects.requireNonNull(apiType, "apiType is required to create informer");
         Objects.requireNonNull(apiListType, "apiListType is required to create informer");
         Objects.requireNonNull(resourcePlural, "resourcePlural is required to create informer");
@@ -120,114 +271,109 @@ public class DefaultSharedIndexInformerFactory extends SharedInformerFactory imp
         String ns = namespace == null ? Namespaces.NAMESPACE_ALL : namespace;
 
         // resolved resync period
-        long evaluatedResyncPeriod = 0L;
-        if (resyncCheckPeriod != null) {
-            evaluatedResyncPeriod = resyncCheckPeriod;
-        } else if (informerConfiguration.getResyncPeriod().isPresent()) {
-            evaluatedResyncPeriod = informerConfiguration.getResyncPeriod().get().toMillis();
-        }
+        long evaluatedResyncPeriod = resolveResyncPeriod(resyncCheckPeriod);
 
-        SharedIndexInformer<ApiType> existingSharedIndexInformer = getExistingSharedIndexInformer(namespace, apiType);
+        SharedIndexInformer<ApiType> existingSharedIndexInformer = watchedNamespaces == null
+                ? getExistingSharedIndexInformer(namespace, apiType)
+                : (SharedIndexInformer<ApiType>) this.informers.get(new NamespacesResourceClassType(watchedNamespaces, apiType));
         if (existingSharedIndexInformer != null) {
             if (LOG.isInfoEnabled()) {
-                LOG.info("Informer for '{}' in namespace '{}' already exists, reusing", apiType, ns);
+                LOG.info("Informer for '{}' in namespace '{}' already exists, reusing", apiType, watchedNamespaces == null ? ns : watchedNamespaces);
             }
             return existingSharedIndexInformer;
         }
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Creating Informer for KubernetesObject '{}' with group '{}', version '{}', resource plural '{}'," +
-                    " label selector '{}' and namespace '{}'", apiType, apiGroup, version, resourcePlural, labelSelector, namespace);
+                    " label selector '{}', field selector '{}' and namespace '{}'", apiType, apiGroup, version, resourcePlural,
+                    labelSelector, fieldSelector, watchedNamespaces == null ? namespace : watchedNamespaces);
         }
 
+        final ApiClient client = apiClient.get();
         final GenericKubernetesApi kubernetesApi = new GenericKubernetesApi(
                 apiType,
                 apiListType,
                 apiGroup,
                 version,
                 resourcePlural,
-                new CustomObjectsApi(apiClient.get()));
-
-        final SharedIndexInformer<ApiType> informer = sharedIndexInformerFor(
-                listerWatcherFor(kubernetesApi, labelSelector, ns),
-                apiType,
-                ns,
-                evaluatedResyncPeriod);
-
-        if (LOG.isInfoEnabled()) {
-            LOG.info("Created Informer for '{}' in namespace '{}'", apiType, ns);
+                new CustomObjectsApi(client));
+
+        final SharedIndexInformer<ApiType> informer;
+        if (watchedNamespaces == null) {
+            informer = sharedIndexInformerFor(
+                    new NamespaceResourceClassType(ns, apiType),
+                    listerWatcherFor(kubernetesApi, client, resourcePath(apiGroup, version, resourcePlural, ns), apiType, labelSelector, fieldSelector, ns),
+                    apiType,
+                    evaluatedResyncPeriod);
+        } else {
+            informer = sharedIndexInformerFor(
+                    new NamespacesResourceClassType(watchedNamespaces, apiType),
+                    new NamespacesFilteringListerWatcher<>(listerWatcherFor(kubernetesApi, client,
+                            resourcePath(apiGroup, version, resourcePlural, Namespaces.NAMESPACE_ALL), apiType,
+                            labelSelector, fieldSelector, Namespaces.NAMESPACE_ALL), watchedNamespaces),
+                    apiType,
+                    evaluatedResyncPeriod);
         }
 
-        startAllRegisteredInformers();
-
-        if (waitForSync) {
-
-            Duration syncTimeout = Duration.ofSeconds(informerConfiguration.getSyncTimeout());
-            Duration syncStep = Duration.ofMillis(informerConfiguration.getSyncStepTimeout());
-
-            if (LOG.isInfoEnabled()) {
-                LOG.info("Waiting for Informer<'{}'> in namespace '{}' to sync", apiType, namespace);
-            }
-            long waitLimit = System.currentTimeMillis() + syncTimeout.toMillis();
-
-            while (waitLimit > System.currentTimeMillis()) {
-                if (informer.hasSynced()) {
-                    break;
-                }
-                if (LOG.isTraceEnabled()) {
-                    LOG.trace("Waiting {} millis to let Informer<'{}'> in namespace '{}' to sync",
-                            syncStep.toMillis(), apiType, namespace);
-                }
-                try {
-                    Thread.sleep(syncStep.toMillis());
-                } catch (InterruptedException e) {
-                    if (LOG.isInfoEnabled()) {
-                        LOG.info("Active waiting for the Informer<'{}'> in namespace '{}' sync up interrupted. " +
-                                "Cancelling waiting.", apiType, namespace);
-                    }
-                    break;
-                }
-            }
-
-            boolean hasSynced = informer.hasSynced();
-            if (LOG.isInfoEnabled() && hasSynced) {
-                LOG.info("Informer<'{}'> in namespace '{}' synced up, {} resources in the store", apiType, namespace,
-                        informer.getIndexer().list().size());
-            }
-
-            if (LOG.isWarnEnabled() && !hasSynced) {
-                LOG.warn("Informer<'{}'> in namespace '{}' didn't sync up. The resources may not be " +
-                                "available for the Informer resource event handler. Consider to raise the sync up " +
-                                "timeout `kubernetes.client.informer.sync-timeout` configured now to {} seconds",
-                        apiType, namespace, informerConfiguration.getSyncTimeout());
-            }
+        if (LOG.isInfoEnabled()) {
+            LOG.info("Created Informer for '{}' in namespace '{}'", apiType, watchedNamespaces == null ? ns : watchedNamespaces);
         }
 
         return informer;
     }
 
     @Override
-    public <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject> List<SharedIndexInformer<? extends KubernetesObject>> sharedIndexInformersFor(
-            Class<ApiType> apiTypeClass,
-            Class<ApiListType> apiListTypeClass,
+    public <ApiType extends KubernetesObject> SharedIndexInformer<PartialObjectMetadata> metadataInformerFor(
+            Class<ApiType> apiType,
             String resourcePlural,
             String apiGroup,
-            @Nullable List<String> namespaces,
+            @Nullable String namespace,
             @Nullable String labelSelector,
+            @Nullable String fieldSelector,
             @Nullable Long resyncCheckPeriod,
             boolean waitForSync) {
 
-        if (namespaces == null) {
-            namespaces = Collections.singletonList(Namespaces.NAMESPACE_ALL);
+        Objects.requireNonNull(apiType, "apiType is required to create informer");
+        Objects.requireNonNull(resourcePlural, "resourcePlural is required to create informer");
+        Objects.requireNonNull(apiGroup, "apiGroup is required to create informer");
+
+        // use mapper to resolve the version from class name
+        String version = MAPPER.getGroupVersionKindByClass(apiType).getVersion();
+
+        // if namespace is null then watch all namespaces
+        String ns = namespace == null ? Namespaces.NAMESPACE_ALL : namespace;
+
+        SharedIndexInformer<PartialObjectMetadata> existingInformer = getExistingMetadataInformer(ns, apiType);
+        if (existingInformer != null) {
+            if (LOG.isInfoEnabled()) {
+                LOG.info("Metadata Informer for '{}' in namespace '{}' already exists, reusing", apiType, ns);
+            }
+            return existingInformer;
         }
 
-        List<SharedIndexInformer<? extends KubernetesObject>> informers = new ArrayList<>(namespaces.size());
-        for (String namespace : namespaces) {
-            SharedIndexInformer<? extends KubernetesObject> informer = sharedIndexInformerFor(
-                    apiTypeClass, apiListTypeClass, resourcePlural, apiGroup, namespace, labelSelector, resyncCheckPeriod, waitForSync);
-            informers.add(informer);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Creating metadata Informer for KubernetesObject '{}' with group '{}', version '{}', resource plural '{}'," +
+                    " label selector '{}', field selector '{}' and namespace '{}'", apiType, apiGroup, version, resourcePlural,
+                    labelSelector, fieldSelector, namespace);
+        }
+
+        final SharedIndexInformer<PartialObjectMetadata> informer = sharedIndexInformerFor(
+                new NamespaceMetadataResourceClassType(ns, apiType),
+                metadataListerWatcherFor(apiClient.get(), resourcePath(apiGroup, version, resourcePlural, ns), labelSelector, fieldSelector, ns),
+                PartialObjectMetadata.class,
+                resolveResyncPeriod(resyncCheckPeriod));
+
+        if (LOG.isInfoEnabled()) {
+            LOG.info("Created metadata Informer for '{}' in namespace '{}'", apiType, ns);
+        }
+
+        startAllRegisteredInformers();
+
+        if (waitForSync) {
+            waitForSync(Collections.singletonMap(ns, informer), apiType);
         }
-        return informers;
+
+        return informer;
     }
 
     @Override
@@ -235,10 +381,34 @@ public class DefaultSharedIndexInformerFactory extends SharedInformerFactory imp
         super.stopAllRegisteredInformers(false);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>When there is no informer created for the namespace, the informer that watches all namespaces and keeps the
+     * resources of the given namespace is returned, see {@link InformerConfiguration#getAllNamespacesThreshold()}.</p>
+     */
     @SuppressWarnings("unchecked")
     @Override
     public <ApiType extends KubernetesObject> SharedIndexInformer<ApiType> getExistingSharedIndexInformer(String namespace, Class<ApiType> apiTypeClass) {
         Type type = new NamespaceResourceClassType(namespace, apiTypeClass);
+        SharedIndexInformer<ApiType> informer = this.informers.getOrDefault(type, null);
+        if (informer == null) {
+            synchronized (this) {
+                for (Type informerType : this.informers.keySet()) {
+                    if (informerType instanceof NamespacesResourceClassType namespacesType
+                            && namespacesType.clazz.equals(apiTypeClass) && namespacesType.namespaces.contains(namespace)) {
+                        return this.informers.get(informerType);
+                    }
+                }
+            }
+        }
+        return informer;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public SharedIndexInformer<PartialObjectMetadata> getExistingMetadataInformer(String namespace, Class<? extends KubernetesObject> apiTypeClass) {
+        Type type = new NamespaceMetadataResourceClassType(namespace, apiTypeClass);
         return this.informers.getOrDefault(type, null);
     }
 
@@ -248,30 +418,158 @@ public class DefaultSharedIndexInformerFactory extends SharedInformerFactory imp
         return new ArrayList<>(this.informers.values());
     }
 
+    @Override
+    @Nullable
+    public InformerListWatchStatistics getListWatchStatistics(SharedIndexInformer<?> informer) {
+        return listWatchStatistics.get(informer);
+    }
+
+    @Override
+    public CompletableFuture<Void> whenSynced(Collection<? extends SharedIndexInformer<?>> informers) {
+        return InformerSyncFutures.whenSynced(informers, Duration.ofMillis(informerConfiguration.getSyncStepTimeout()));
+    }
+
     @SuppressWarnings("unchecked")
     private synchronized <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject> SharedIndexInformer<ApiType> sharedIndexInformerFor(
+            Type type,
             ListerWatcher<ApiType, ApiListType> listerWatcher,
             Class<ApiType> apiTypeClass,
-            String namespace,
             long resyncPeriodInMillis) {
-        Type type = new NamespaceResourceClassType(namespace, apiTypeClass);
         return this.informers.computeIfAbsent(type, k -> {
+            InformerListWatchStatistics statistics = new InformerListWatchStatistics();
             Cache<ApiType> cache = new Cache<>(
                         Caches.NAMESPACE_INDEX,
                         Caches::metaNamespaceIndexFunc,
                         Caches::deletionHandlingMetaNamespaceKeyFunc);
-            return new DefaultSharedIndexInformer<>(apiTypeClass, listerWatcher, resyncPeriodInMillis, cache);
+            cache.addIndexers(indexFuncsFor(apiTypeClass));
+            DefaultSharedIndexInformer<ApiType, ApiListType> informer = new DefaultSharedIndexInformer<>(apiTypeClass,
+                    new CountingListerWatcher<>(listerWatcher, statistics, type), resyncPeriodInMillis, cache);
+            TransformFunc transform = transformFor(apiTypeClass);
+            if (transform != null) {
+                informer.setTransform(transform);
+            }
+            listWatchStatistics.put(informer, statistics);
+            return informer;
+        });
+    }
+
+    /**
+     * Resolves the index functions of the {@link InformerIndexer}s of the resources assignable to the api type.
+     */
+    @SuppressWarnings("unchecked")
+    private <ApiType extends KubernetesObject> Map<String, Function<ApiType, List<String>>> indexFuncsFor(Class<ApiType> apiTypeClass) {
+        Map<String, Function<ApiType, List<String>>> indexFuncs = new HashMap<>();
+        for (InformerIndexer<?> indexer : indexers) {
+            if (indexer.getApiType().isAssignableFrom(apiTypeClass)) {
+                InformerIndexer<ApiType> typedIndexer = (InformerIndexer<ApiType>) indexer;
+                if (indexFuncs.putIfAbsent(indexer.getName(), typedIndexer::index) != null) {
+                    throw new IllegalStateException("Multiple indexers named '" + indexer.getName() + "' registered for " + apiTypeClass);
+                }
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Registering index '{}' to the Informer cache of '{}'", indexer.getName(), apiTypeClass);
+                }
+            }
+        }
+        return indexFuncs;
+    }
+
+    /**
+     * Resolves the transform function of the {@link InformerTransformer}s of the resources assignable to the api type.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private TransformFunc transformFor(Class<? extends KubernetesObject> apiTypeClass) {
+        List<InformerTransformer<KubernetesObject>> apiTypeTransformers = new ArrayList<>();
+        for (InformerTransformer<?> transformer : transformers) {
+            if (transformer.getApiType().isAssignableFrom(apiTypeClass)) {
+                apiTypeTransformers.add((InformerTransformer<KubernetesObject>) transformer);
+            }
+        }
+        if (apiTypeTransformers.isEmpty()) {
+            return null;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Registering {} transformers to the Informer of '{}'", apiTypeTransformers.size(), apiTypeClass);
+        }
+        return resource -> {
+            KubernetesObject transformed = resource;
+            for (InformerTransformer<KubernetesObject> transformer : apiTypeTransformers) {
+                transformed = transformer.transform(transformed);
+            }
+            return transformed;
+        };
+    }
+
+    private static ExecutorService informerExecutor(@Nullable ApiClientConfiguration apiClientConfiguration) {
+        ExecutorService executorService = VirtualThreads.newThreadPerTaskExecutor(
+                apiClientConfiguration != null && apiClientConfiguration.isVirtualThreads(), "informer-");
+        return executorService != null ? executorService : Executors.newCachedThreadPool();
+    }
+
+    private long resolveResyncPeriod(@Nullable Long resyncCheckPeriod) {
+        if (resyncCheckPeriod != null) {
+            return resyncCheckPeriod;
+        }
+        return informerConfiguration.getResyncPeriod().map(Duration::toMillis).orElse(0L);
+    }
+
+    /**
+     * Waits until all the informers are synced up or the sync timeout elapses, the informers are synced up
+     * concurrently, hence the wait is bounded by the slowest of them. Used when the informers are created with
+     * the {@code waitForSync} flag, e.g. for the {@link Informer} handlers, and blocks the calling thread meanwhile,
+     * otherwise see {@link #whenSynced(Collection)}.
+     *
+     * @param informers the informers by namespace
+     * @param apiType   the informers api type
+     */
+    private void waitForSync(Map<String, ? extends SharedIndexInformer<?>> informers, Class<?> apiType) {
+        if (LOG.isInfoEnabled()) {
+            LOG.info("Waiting for Informer<'{}'> in namespaces '{}' to sync", apiType, informers.keySet());
+        }
+
+        CompletableFuture<Void> synced = whenSynced(informers.values());
+        try {
+            synced.get(informerConfiguration.getSyncTimeout(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            // reported below for every informer that didn't sync up
+        } catch (InterruptedException e) {
+            if (LOG.isInfoEnabled()) {
+                LOG.info("Waiting for the Informer<'{}'> in namespaces '{}' sync up interrupted. " +
+                        "Cancelling waiting.", apiType, informers.keySet());
+            }
+        } catch (ExecutionException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Failed to wait for the Informer<'" + apiType + "'> sync up", e.getCause());
+            }
+        } finally {
+            synced.cancel(false);
+        }
+
+        informers.forEach((namespace, informer) -> {
+            boolean hasSynced = informer.hasSynced();
+            if (LOG.isInfoEnabled() && hasSynced) {
+                LOG.info("Informer<'{}'> in namespace '{}' synced up, {} resources in the store", apiType, namespace,
+                        informer.getIndexer().list().size());
+            }
+
+            if (LOG.isWarnEnabled() && !hasSynced) {
+                LOG.warn("Informer<'{}'> in namespace '{}' didn't sync up. The resources may not be " +
+                                "available for the Informer resource event handler. Consider to raise the sync up " +
+                                "timeout `kubernetes.client.informer.sync-timeout` configured now to {} seconds",
+                        apiType, namespace, informerConfiguration.getSyncTimeout());
+            }
         });
     }
 
     private <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject>
     ListerWatcher<ApiType, ApiListType> listerWatcherFor(
-            GenericKubernetesApi<ApiType, ApiListType> genericKubernetesApi, String labelSelector, String namespace) {
+            GenericKubernetesApi<ApiType, ApiListType> genericKubernetesApi, ApiClient client, String path, Class<ApiType> apiType,
+            String labelSelector, String fieldSelector, String namespace) {
 
         return new ListerWatcher<ApiType, ApiListType>() {
 
             public ApiListType list(CallGeneratorParams params) throws ApiException {
-                final ExtendedCallGeneratorParams generatorParams = new ExtendedCallGeneratorParams(params.watch, params.resourceVersion, params.timeoutSeconds, labelSelector);
+                final ExtendedCallGeneratorParams generatorParams = new ExtendedCallGeneratorParams(params.watch, params.resourceVersion, params.timeoutSeconds, labelSelector, fieldSelector);
                 final ListOptions options = createListOptions(generatorParams);
 
                 if (Namespaces.NAMESPACE_ALL.equals(namespace)) {
@@ -294,45 +592,119 @@ public class DefaultSharedIndexInformerFactory extends SharedInformerFactory imp
             }
 
             public Watchable<ApiType> watch(CallGeneratorParams params) throws ApiException {
-                final ExtendedCallGeneratorParams generatorParams = new ExtendedCallGeneratorParams(params.watch, params.resourceVersion, params.timeoutSeconds, labelSelector);
-                final ListOptions options = createListOptions(generatorParams);
-                if (Namespaces.NAMESPACE_ALL.equals(namespace)) {
-                    if (LOG.isDebugEnabled()) {
+                final ExtendedCallGeneratorParams generatorParams = new ExtendedCallGeneratorParams(params.watch, params.resourceVersion, params.timeoutSeconds, labelSelector, fieldSelector);
+                if (LOG.isDebugEnabled()) {
+                    if (Namespaces.NAMESPACE_ALL.equals(namespace)) {
                         LOG.debug("Watch all namespaces with params: {}", generatorParams);
-                    }
-                    return genericKubernetesApi.watch(options);
-                } else {
-                    if (LOG.isDebugEnabled()) {
+                    } else {
                         LOG.debug("Watch namespace '{}' with params: {}", namespace, generatorParams);
                     }
-                    return genericKubernetesApi.watch(namespace, options);
                 }
+                // the generic api doesn't request the bookmarks, hence the call is created here
+                Call call = createCall(client, path, generatorParams, "application/json");
+                return Watch.createWatch(client, call, TypeToken.getParameterized(Watch.Response.class, apiType).getType());
             }
         };
     }
 
+    private ListerWatcher<PartialObjectMetadata, PartialObjectMetadataList> metadataListerWatcherFor(
+            ApiClient client, String path, String labelSelector, String fieldSelector, String namespace) {
+
+        return new ListerWatcher<PartialObjectMetadata, PartialObjectMetadataList>() {
+
+            public PartialObjectMetadataList list(CallGeneratorParams params) throws ApiException {
+                final ExtendedCallGeneratorParams generatorParams = new ExtendedCallGeneratorParams(params.watch, params.resourceVersion, params.timeoutSeconds, labelSelector, fieldSelector);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("List metadata of '{}' in namespace '{}' with params: {}", path, namespace, generatorParams);
+                }
+                Call call = createCall(client, path, generatorParams, PartialObjectMetadataList.MEDIA_TYPE + ", application/json");
+                return client.<PartialObjectMetadataList>execute(call, PartialObjectMetadataList.class).getData();
+            }
+
+            public Watchable<PartialObjectMetadata> watch(CallGeneratorParams params) throws ApiException {
+                final ExtendedCallGeneratorParams generatorParams = new ExtendedCallGeneratorParams(params.watch, params.resourceVersion, params.timeoutSeconds, labelSelector, fieldSelector);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Watch metadata of '{}' in namespace '{}' with params: {}", path, namespace, generatorParams);
+                }
+                Call call = createCall(client, path, generatorParams, PartialObjectMetadata.MEDIA_TYPE + ", application/json");
+                return Watch.createWatch(client, call, new TypeToken<Watch.Response<PartialObjectMetadata>>() {
+                }.getType());
+            }
+        };
+    }
+
+    /**
+     * Creates the list or watch call of the resources. The watch requests the bookmarks, so that it's resumed from
+     * the resource version of the last bookmark rather than relisting the resources when there were no changes of
+     * the watched resources for longer than the resource version retention of the API server.
+     *
+     * <p>The metadata-only informers accept the metadata-only representation of the resources. The full
+     * representation is accepted as a fallback, the fields other than the metadata are then ignored when the response
+     * is deserialized.</p>
+     */
+    private static Call createCall(ApiClient client, String path, ExtendedCallGeneratorParams params, String accept) throws ApiException {
+        List<Pair> queryParams = new ArrayList<>();
+        if (StringUtils.isNotEmpty(params.labelSelector)) {
+            queryParams.add(new Pair("labelSelector", params.labelSelector));
+        }
+        if (StringUtils.isNotEmpty(params.fieldSelector)) {
+            queryParams.add(new Pair("fieldSelector", params.fieldSelector));
+        }
+        if (params.resourceVersion != null) {
+            queryParams.add(new Pair("resourceVersion", params.resourceVersion));
+        }
+        if (params.timeoutSeconds != null) {
+            queryParams.add(new Pair("timeoutSeconds", String.valueOf(params.timeoutSeconds)));
+        }
+        if (Boolean.TRUE.equals(params.watch)) {
+            queryParams.add(new Pair("watch", StringUtils.TRUE));
+            queryParams.add(new Pair("allowWatchBookmarks", StringUtils.TRUE));
+        }
+        Map<String, String> headerParams = new HashMap<>();
+        headerParams.put("Accept", accept);
+        return client.buildCall(path, "GET", queryParams, Collections.emptyList(), null, headerParams,
+                new HashMap<>(), new HashMap<>(), new String[]{"BearerToken"}, null);
+    }
+
+    private static String resourcePath(String apiGroup, String version, String resourcePlural, String namespace) {
+        StringBuilder path = new StringBuilder();
+        if (StringUtils.isEmpty(apiGroup)) {
+            path.append("/api/").append(version);
+        } else {
+            path.append("/apis/").append(apiGroup).append('/').append(version);
+        }
+        if (!Namespaces.NAMESPACE_ALL.equals(namespace)) {
+            path.append("/namespaces/").append(namespace);
+        }
+        return path.append('/').append(resourcePlural).toString();
+    }
+
     private ListOptions createListOptions(ExtendedCallGeneratorParams params) {
         return new ListOptions() {
             {
                 setResourceVersion(params.resourceVersion);
                 setTimeoutSeconds(params.timeoutSeconds);
                 setLabelSelector(params.labelSelector);
+                setFieldSelector(params.fieldSelector);
             }
         };
     }
 
     static class ExtendedCallGeneratorParams extends CallGeneratorParams {
         String labelSelector;
+        String fieldSelector;
 
-        public ExtendedCallGeneratorParams(Boolean watch, String resourceVersion, Integer timeoutSeconds, String labelSelector) {
+        public ExtendedCallGeneratorParams(Boolean watch, String resourceVersion, Integer timeoutSeconds, String labelSelector, String fieldSelector) {
             super(watch, resourceVersion, timeoutSeconds);
             this.labelSelector = labelSelector;
+            this.fieldSelector = fieldSelector;
         }
 
         @Override
         public String toString() {
             return "ExtendedCallGeneratorParams{" +
                     "labelSelector='" + labelSelector + '\'' +
+                    ", fieldSelector='" + fieldSelector + '\'' +
                     ", watch=" + watch +
                     ", resourceVersion='" + resourceVersion + '\'' +
                     ", timeoutSeconds=" + timeoutSeconds +
@@ -340,6 +712,161 @@ public class DefaultSharedIndexInformerFactory extends SharedInformerFactory imp
         }
     }
 
+    /**
+     * The key of the informer that watches all namespaces and keeps the resources of the given namespaces.
+     */
+    @SuppressWarnings("rawtypes")
+    static class NamespacesResourceClassType extends NamespaceResourceClassType {
+        Set<String> namespaces;
+
+        public NamespacesResourceClassType(Set<String> namespaces, Class clazz) {
+            super(Namespaces.NAMESPACE_ALL, clazz);
+            this.namespaces = namespaces;
+        }
+
+        @Override
+        public String getTypeName() {
+            return namespaces + "#" + super.getTypeName();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return super.equals(o) && namespaces.equals(((NamespacesResourceClassType) o).namespaces);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(super.hashCode(), namespaces);
+        }
+    }
+
+    /**
+     * The {@link ListerWatcher} that counts the list and watch calls in the {@link InformerListWatchStatistics}.
+     *
+     * @param <ApiType>     api type
+     * @param <ApiListType> api list type
+     */
+    static final class CountingListerWatcher<ApiType extends KubernetesObject, ApiListType extends KubernetesListObject>
+            implements ListerWatcher<ApiType, ApiListType> {
+
+        private final ListerWatcher<ApiType, ApiListType> delegate;
+        private final InformerListWatchStatistics statistics;
+        private final Type type;
+
+        CountingListerWatcher(ListerWatcher<ApiType, ApiListType> delegate, InformerListWatchStatistics statistics, Type type) {
+            this.delegate = delegate;
+            this.statistics = statistics;
+            this.type = type;
+        }
+
+        @Override
+        public ApiListType list(CallGeneratorParams params) throws ApiException {
+            statistics.listed();
+            if (statistics.getRelistCount() > 0 && LOG.isDebugEnabled()) {
+                LOG.debug("Relisting the resources of Informer '{}', {}", type.getTypeName(), statistics);
+            }
+            return delegate.list(params);
+        }
+
+        @Override
+        public Watchable<ApiType> watch(CallGeneratorParams params) throws ApiException {
+            if (statistics.watched() && LOG.isTraceEnabled()) {
+                LOG.trace("Resuming the watch of Informer '{}' from resource version '{}'", type.getTypeName(), params.resourceVersion);
+            }
+            return delegate.watch(params);
+        }
+    }
+
+    /**
+     * The {@link ListerWatcher} of all namespaces that drops the resources of the namespaces other than the given
+     * ones before they reach the informer cache.
+     *
+     * @param <ApiType>     api type
+     * @param <ApiListType> api list type
+     */
+    static final class NamespacesFilteringListerWatcher<ApiType extends KubernetesObject, ApiListType extends KubernetesListObject>
+            implements ListerWatcher<ApiType, ApiListType> {
+
+        private final ListerWatcher<ApiType, ApiListType> delegate;
+        private final Set<String> namespaces;
+
+        NamespacesFilteringListerWatcher(ListerWatcher<ApiType, ApiListType> delegate, Set<String> namespaces) {
+            this.delegate = delegate;
+            this.namespaces = namespaces;
+        }
+
+        @Override
+        public ApiListType list(CallGeneratorParams params) throws ApiException {
+            ApiListType list = delegate.list(params);
+            if (list != null && list.getItems() != null) {
+                list.getItems().removeIf(item -> !isWatched(item));
+            }
+            return list;
+        }
+
+        @Override
+        public Watchable<ApiType> watch(CallGeneratorParams params) throws ApiException {
+            Watchable<ApiType> watchable = delegate.watch(params);
+            return new Watchable<ApiType>() {
+                private Watch.Response<ApiType> next;
+
+                @Override
+                public boolean hasNext() {
+                    while (next == null && watchable.hasNext()) {
+                        Watch.Response<ApiType> response = watchable.next();
+                        // the bookmarks and errors are passed through
+                        if (response == null || !(response.object instanceof KubernetesObject) || isWatched(response.object)) {
+                            next = response;
+                        }
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public Watch.Response<ApiType> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Watch.Response<ApiType> response = next;
+                    next = null;
+                    return response;
+                }
+
+                @Override
+                public Iterator<Watch.Response<ApiType>> iterator() {
+                    return this;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    watchable.close();
+                }
+            };
+        }
+
+        private boolean isWatched(KubernetesObject resource) {
+            // the cluster scoped resources have no namespace
+            return resource.getMetadata() == null || resource.getMetadata().getNamespace() == null
+                    || namespaces.contains(resource.getMetadata().getNamespace());
+        }
+    }
+
+    /**
+     * The key of the metadata-only informer, distinct from the key of the informer of the full resources.
+     */
+    @SuppressWarnings("rawtypes")
+    static class NamespaceMetadataResourceClassType extends NamespaceResourceClassType {
+
+        public NamespaceMetadataResourceClassType(String namespace, Class clazz) {
+            super(namespace, clazz);
+        }
+
+        @Override
+        public String getTypeName() {
+            return "metadata#" + super.getTypeName();
+        }
+    }
+
     @SuppressWarnings("rawtypes")
     static class NamespaceResourceClassType implements Type {
         String namespace;
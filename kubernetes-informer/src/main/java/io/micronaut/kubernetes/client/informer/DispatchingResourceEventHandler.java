@@ -0,0 +1,277 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client.informer;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.cache.Caches;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link ResourceEventHandler} that dispatches the events to the delegate handler through a bounded queue.
+ *
+ * <p>The informer delivers the events to every handler through its own unbounded queue, hence the events pile up
+ * there when the handler is slower than the changes of the resources. This handler only queues the event, and the
+ * delegate handler is invoked by a single task of the given executor at a time, so the delegate still receives the
+ * events one by one and in order.</p>
+ *
+ * <p>When coalescing, the queue keeps at most one event per resource key, the subsequent updates of the resource are
+ * merged into the queued event, e.g. an added and then updated resource is delivered as added with its latest
+ * state, and an added and then deleted resource is not delivered at all. When the queue is full, the event is
+ * handled according to the {@link OverflowPolicy}.</p>
+ *
+ * @param <ApiType> the resource type
+ * @since 6.2
+ */
+public final class DispatchingResourceEventHandler<ApiType extends KubernetesObject> implements ResourceEventHandler<ApiType> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DispatchingResourceEventHandler.class);
+
+    private final ResourceEventHandler<ApiType> delegate;
+    private final Executor executor;
+    private final int capacity;
+    private final boolean coalesce;
+    private final OverflowPolicy overflowPolicy;
+    private final Deque<Event<ApiType>> queue = new ArrayDeque<>();
+    private final Map<String, Event<ApiType>> queuedByKey = new HashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private boolean draining;
+
+    /**
+     * @param delegate       the handler the events are dispatched to
+     * @param executor       the executor the delegate handler is invoked on
+     * @param capacity       the maximal number of the queued events
+     * @param coalesce       whether to merge the events of the same resource
+     * @param overflowPolicy the policy applied when the queue is full
+     */
+    public DispatchingResourceEventHandler(ResourceEventHandler<ApiType> delegate, Executor executor, int capacity,
+                                           boolean coalesce, OverflowPolicy overflowPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The queue capacity must be positive: " + capacity);
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.capacity = capacity;
+        this.coalesce = coalesce;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "overflowPolicy");
+    }
+
+    @Override
+    public void onAdd(ApiType obj) {
+        dispatch(new Event<>(EventType.ADD, null, obj, false));
+    }
+
+    @Override
+    public void onUpdate(ApiType oldObj, ApiType newObj) {
+        dispatch(new Event<>(EventType.UPDATE, oldObj, newObj, false));
+    }
+
+    @Override
+    public void onDelete(ApiType obj, boolean deletedFinalStateUnknown) {
+        dispatch(new Event<>(EventType.DELETE, null, obj, deletedFinalStateUnknown));
+    }
+
+    /**
+     * @return the number of the events waiting in the queue
+     */
+    public int getQueuedCount() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * @return the number of the events dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void dispatch(Event<ApiType> event) {
+        synchronized (queue) {
+            while (true) {
+                if (coalesce && coalesce(event)) {
+                    return;
+                }
+                if (queue.size() < capacity) {
+                    break;
+                }
+                if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                    drop(event);
+                    return;
+                } else if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                    drop(poll());
+                } else {
+                    try {
+                        queue.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        drop(event);
+                        return;
+                    }
+                }
+            }
+            queue.addLast(event);
+            if (coalesce) {
+                queuedByKey.put(event.key, event);
+            }
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            synchronized (queue) {
+                draining = false;
+            }
+            if (LOG.isErrorEnabled()) {
+                LOG.error("Failed to dispatch the events to the handler " + delegate, e);
+            }
+        }
+    }
+
+    /**
+     * Merges the event into the queued event of the same resource.
+     *
+     * @param event the event
+     * @return whether the event was merged
+     */
+    private boolean coalesce(Event<ApiType> event) {
+        Event<ApiType> queued = queuedByKey.get(event.key);
+        if (queued == null || queued.type == EventType.DELETE || event.type == EventType.ADD) {
+            return false;
+        }
+        if (event.type == EventType.UPDATE) {
+            queued.obj = event.obj;
+        } else if (queued.type == EventType.ADD) {
+            // the handler hasn't seen the resource yet
+            queue.remove(queued);
+            queuedByKey.remove(event.key);
+            queue.notifyAll();
+        } else {
+            queued.type = EventType.DELETE;
+            queued.oldObj = null;
+            queued.obj = event.obj;
+            queued.deletedFinalStateUnknown = event.deletedFinalStateUnknown;
+        }
+        return true;
+    }
+
+    private Event<ApiType> poll() {
+        Event<ApiType> event = queue.pollFirst();
+        if (event != null) {
+            if (coalesce) {
+                queuedByKey.remove(event.key, event);
+            }
+            queue.notifyAll();
+        }
+        return event;
+    }
+
+    private void drop(Event<ApiType> event) {
+        long count = dropped.incrementAndGet();
+        if (count == 1 && LOG.isWarnEnabled()) {
+            LOG.warn("The event queue of the handler {} is full, dropping the {} event of '{}'. Consider to raise the queue capacity.",
+                    delegate, event.type, event.key);
+        } else if (LOG.isDebugEnabled()) {
+            LOG.debug("The event queue of the handler {} is full, dropping the {} event of '{}', {} events dropped so far",
+                    delegate, event.type, event.key, count);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Event<ApiType> event;
+            synchronized (queue) {
+                event = poll();
+                if (event == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                if (event.type == EventType.ADD) {
+                    delegate.onAdd(event.obj);
+                } else if (event.type == EventType.UPDATE) {
+                    delegate.onUpdate(event.oldObj, event.obj);
+                } else {
+                    delegate.onDelete(event.obj, event.deletedFinalStateUnknown);
+                }
+            } catch (Throwable t) {
+                // the drain must go on, otherwise the draining flag is never reset and the handler gets no events
+                if (LOG.isErrorEnabled()) {
+                    LOG.error("Failed invoking " + event.type + " event handler " + delegate, t);
+                }
+            }
+        }
+    }
+
+    /**
+     * The policy applied when the event is dispatched to the full queue.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Waits until there is room in the queue. The informer then keeps the subsequent events in its own queue
+         * of the handler, the other handlers of the informer are not blocked.
+         */
+        BLOCK,
+        /**
+         * Drops the event. The dropped updates are delivered again by the next resync, if enabled.
+         */
+        DROP_NEWEST,
+        /**
+         * Drops the oldest queued event to make room for the event.
+         */
+        DROP_OLDEST
+    }
+
+    private enum EventType {
+        ADD, UPDATE, DELETE
+    }
+
+    /**
+     * The queued event.
+     *
+     * @param <ApiType> the resource type
+     */
+    private static final class Event<ApiType extends KubernetesObject> {
+        private final String key;
+        private EventType type;
+        private ApiType oldObj;
+        private ApiType obj;
+        private boolean deletedFinalStateUnknown;
+
+        private Event(EventType type, ApiType oldObj, ApiType obj, boolean deletedFinalStateUnknown) {
+            this.key = Caches.deletionHandlingMetaNamespaceKeyFunc(obj);
+            this.type = type;
+            this.oldObj = oldObj;
+            this.obj = obj;
+            this.deletedFinalStateUnknown = deletedFinalStateUnknown;
+        }
+    }
+}
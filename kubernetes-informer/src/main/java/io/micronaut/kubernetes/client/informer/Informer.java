@@ -21,6 +21,7 @@ import io.micronaut.aop.AroundConstruct;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Context;
 import io.micronaut.context.annotation.DefaultScope;
+import io.micronaut.scheduling.TaskExecutors;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -125,4 +126,58 @@ public @interface Informer {
      * @see <a href="https://kubernetes.io/docs/concepts/overview/working-with-objects/labels/#label-selectors">Label selectors</a>
      */
     Class<? extends Supplier<String>> labelSelectorSupplier() default EmptyLabelSupplier.class;
+
+    /**
+     * Informer field selector. The resources are filtered by the API server, e.g. {@code spec.nodeName=my-node}
+     * to watch only the Pods scheduled on the node.
+     *
+     * @return field selector
+     * @see <a href="https://kubernetes.io/docs/concepts/overview/working-with-objects/field-selectors/">Field selectors</a>
+     * @since 6.2
+     */
+    String fieldSelector() default "";
+
+    /**
+     * Informer field selector supplier.
+     *
+     * @return field selector supplier
+     * @see <a href="https://kubernetes.io/docs/concepts/overview/working-with-objects/field-selectors/">Field selectors</a>
+     * @since 6.2
+     */
+    Class<? extends Supplier<String>> fieldSelectorSupplier() default EmptyFieldSelectorSupplier.class;
+
+    /**
+     * The capacity of the queue the events are dispatched through to the handler. By default, the informer invokes
+     * the handler directly. When positive, the handler is invoked on the {@link #dispatchExecutor()} and the events
+     * are queued by the {@link DispatchingResourceEventHandler}.
+     *
+     * @return the dispatch queue capacity
+     * @since 6.2
+     */
+    int dispatchQueueSize() default 0;
+
+    /**
+     * The name of the {@link java.util.concurrent.ExecutorService} bean the handler is invoked on when the events are
+     * dispatched through the queue, e.g. {@link TaskExecutors#VIRTUAL}.
+     *
+     * @return the executor name
+     * @since 6.2
+     */
+    String dispatchExecutor() default TaskExecutors.BLOCKING;
+
+    /**
+     * Whether to merge the queued events of the same resource when the events are dispatched through the queue.
+     *
+     * @return whether to coalesce the events
+     * @since 6.2
+     */
+    boolean dispatchCoalesce() default true;
+
+    /**
+     * The policy applied when the events are dispatched through the queue and the queue is full.
+     *
+     * @return the overflow policy
+     * @since 6.2
+     */
+    DispatchingResourceEventHandler.OverflowPolicy dispatchOverflowPolicy() default DispatchingResourceEventHandler.OverflowPolicy.BLOCK;
 }
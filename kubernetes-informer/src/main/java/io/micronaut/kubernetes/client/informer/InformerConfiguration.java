@@ -42,13 +42,45 @@ public interface InformerConfiguration extends Toggleable {
     long getSyncTimeout();
 
     /**
-     * Timeout step to check whether the informer has synchronised.
+     * Timeout step to check whether the informer has synchronised. The informer is checked more often right after it
+     * was started, the step is the maximal interval between the checks.
      *
      * @return step timeout in milliseconds
      */
     @Bindable(defaultValue = "500")
     long getSyncStepTimeout();
 
+    /**
+     * The number of namespaces above which a single informer watching all namespaces is created instead of the
+     * informer per namespace. The resources of the other namespaces are dropped before they are stored in the
+     * informer cache. Requires the permission to list and watch the resources in all namespaces. Disabled by default.
+     *
+     * @return the namespaces threshold, 0 to always create the informer per namespace
+     * @since 6.2
+     */
+    @Bindable(defaultValue = "0")
+    int getAllNamespacesThreshold();
+
+    /**
+     * Whether the {@code managedFields} of the resources metadata are removed before the resources are stored in the
+     * informer cache.
+     *
+     * @return true to remove the managed fields
+     * @since 6.2
+     */
+    @Bindable(defaultValue = "false")
+    boolean isStripManagedFields();
+
+    /**
+     * Whether the {@value InformerTransformer#LAST_APPLIED_CONFIGURATION_ANNOTATION} annotation of the resources is
+     * removed before the resources are stored in the informer cache.
+     *
+     * @return true to remove the last applied configuration annotation
+     * @since 6.2
+     */
+    @Bindable(defaultValue = "false")
+    boolean isStripLastAppliedConfiguration();
+
     /**
      * Resync period to use for all informers.
      *
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client.informer;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1OwnerReference;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Named index function of the {@link SharedIndexInformer} cache. Every bean of this type is registered by the
+ * {@link SharedIndexInformerFactory} to the caches of the informers created for the resources assignable to the
+ * {@link #getApiType()}, including the informers created for the {@link Informer} annotated resource event handlers.
+ *
+ * <p>The indexed resources are then retrieved in constant time by {@link #byIndex(SharedIndexInformer, String)}
+ * instead of scanning all the resources of the cache, e.g. the Pods owned by the given ReplicaSet:</p>
+ *
+ * <pre>
+ * &#064;Factory
+ * public class PodIndexers {
+ *
+ *   &#064;Singleton
+ *   public InformerIndexer&lt;V1Pod&gt; podsByOwner() {
+ *       return InformerIndexer.byOwnerReferenceUid(V1Pod.class);
+ *   }
+ * }
+ * </pre>
+ *
+ * @param <ApiType> the indexed resource type
+ * @since 6.2
+ */
+public interface InformerIndexer<ApiType extends KubernetesObject> {
+
+    /**
+     * The name of the index of the owner reference uids, see {@link #byOwnerReferenceUid(Class)}.
+     */
+    String OWNER_REFERENCE_UID_INDEX = "ownerReferenceUid";
+
+    /**
+     * The type of the indexed resources.
+     *
+     * @return the resource type
+     */
+    @NonNull
+    Class<ApiType> getApiType();
+
+    /**
+     * The name of the index, unique per informer.
+     *
+     * @return the index name
+     */
+    @NonNull
+    String getName();
+
+    /**
+     * Computes the indexed values of the resource.
+     *
+     * @param resource the resource
+     * @return the indexed values, empty if the resource isn't indexed
+     */
+    @NonNull
+    List<String> index(@NonNull ApiType resource);
+
+    /**
+     * Retrieves the resources indexed by the given value from the informer cache.
+     *
+     * @param informer     the informer created for the {@link #getApiType()}
+     * @param indexedValue the indexed value
+     * @return the indexed resources
+     */
+    @NonNull
+    default List<ApiType> byIndex(@NonNull SharedIndexInformer<ApiType> informer, @NonNull String indexedValue) {
+        return informer.getIndexer().byIndex(getName(), indexedValue);
+    }
+
+    /**
+     * Creates the indexer of the given index function.
+     *
+     * @param apiType   the type of the indexed resources
+     * @param name      the index name
+     * @param indexFunc the index function
+     * @param <ApiType> the indexed resource type
+     * @return the indexer
+     */
+    @NonNull
+    static <ApiType extends KubernetesObject> InformerIndexer<ApiType> of(@NonNull Class<ApiType> apiType,
+                                                                          @NonNull String name,
+                                                                          @NonNull Function<ApiType, List<String>> indexFunc) {
+        Objects.requireNonNull(apiType, "apiType is required to create indexer");
+        Objects.requireNonNull(name, "name is required to create indexer");
+        Objects.requireNonNull(indexFunc, "indexFunc is required to create indexer");
+        return new InformerIndexer<ApiType>() {
+            @Override
+            public Class<ApiType> getApiType() {
+                return apiType;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public List<String> index(ApiType resource) {
+                return indexFunc.apply(resource);
+            }
+
+            @Override
+            public String toString() {
+                return "InformerIndexer{apiType=" + apiType.getName() + ", name='" + name + "'}";
+            }
+        };
+    }
+
+    /**
+     * Creates the indexer of the uids of the resource owners, named {@link #OWNER_REFERENCE_UID_INDEX}.
+     *
+     * @param apiType   the type of the indexed resources
+     * @param <ApiType> the indexed resource type
+     * @return the indexer
+     */
+    @NonNull
+    static <ApiType extends KubernetesObject> InformerIndexer<ApiType> byOwnerReferenceUid(@NonNull Class<ApiType> apiType) {
+        return of(apiType, OWNER_REFERENCE_UID_INDEX, resource -> {
+            V1ObjectMeta metadata = resource.getMetadata();
+            if (metadata == null || metadata.getOwnerReferences() == null) {
+                return Collections.emptyList();
+            }
+            List<String> uids = new ArrayList<>(metadata.getOwnerReferences().size());
+            for (V1OwnerReference ownerReference : metadata.getOwnerReferences()) {
+                if (ownerReference.getUid() != null) {
+                    uids.add(ownerReference.getUid());
+                }
+            }
+            return uids;
+        });
+    }
+}
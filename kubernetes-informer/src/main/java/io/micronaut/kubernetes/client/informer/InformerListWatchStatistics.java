@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client.informer;
+
+import io.kubernetes.client.informer.SharedIndexInformer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The statistics of the list and watch calls of a {@link SharedIndexInformer}.
+ *
+ * <p>The informer lists the resources once it starts, and then watches the changes from the resource version of the
+ * list. When the watch ends, e.g. when its timeout elapses, the watch is resumed from the resource version of the
+ * last received event or bookmark. The resources are listed again, i.e. relisted, only when the resource version is
+ * no longer available, therefore a growing count of relists indicates the watches can't be resumed.</p>
+ *
+ * @since 6.2
+ */
+public final class InformerListWatchStatistics {
+
+    private final AtomicLong lists = new AtomicLong();
+    private final AtomicLong watches = new AtomicLong();
+    private final AtomicLong resumes = new AtomicLong();
+    private volatile boolean listed;
+
+    /**
+     * @return the count of the list calls, including the initial one
+     */
+    public long getListCount() {
+        return lists.get();
+    }
+
+    /**
+     * @return the count of the list calls other than the initial one
+     */
+    public long getRelistCount() {
+        return Math.max(0, lists.get() - 1);
+    }
+
+    /**
+     * @return the count of the watch calls
+     */
+    public long getWatchCount() {
+        return watches.get();
+    }
+
+    /**
+     * @return the count of the watch calls resumed from the resource version of the previous watch
+     */
+    public long getResumeCount() {
+        return resumes.get();
+    }
+
+    void listed() {
+        lists.incrementAndGet();
+        listed = true;
+    }
+
+    /**
+     * @return whether the watch is resumed from the resource version of the previous watch
+     */
+    boolean watched() {
+        watches.incrementAndGet();
+        if (listed) {
+            listed = false;
+            return false;
+        }
+        resumes.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "InformerListWatchStatistics{" +
+                "lists=" + lists +
+                ", watches=" + watches +
+                ", resumes=" + resumes +
+                '}';
+    }
+}
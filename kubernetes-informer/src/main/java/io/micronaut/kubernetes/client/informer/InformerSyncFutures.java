@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client.informer;
+
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.micronaut.core.annotation.Internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * Creates the futures completed once the informers synced up.
+ *
+ * <p>The informers don't notify when they synced up, hence the state is checked by the tasks scheduled by the
+ * {@link CompletableFuture#delayedExecutor(long, TimeUnit)}, so no thread is blocked while waiting. The check
+ * interval starts short and doubles up to the given maximum, so that the informers that sync up fast are
+ * reported without delay.</p>
+ *
+ * @since 6.2
+ */
+@Internal
+final class InformerSyncFutures {
+
+    private static final long INITIAL_CHECK_INTERVAL_MILLIS = 10;
+
+    private InformerSyncFutures() {
+    }
+
+    /**
+     * @param informers        the informers
+     * @param maxCheckInterval the maximal interval between the checks of the informers state
+     * @return the future completed once all the informers synced up, cancelling it stops the checks
+     */
+    static CompletableFuture<Void> whenSynced(Collection<? extends SharedIndexInformer<?>> informers, Duration maxCheckInterval) {
+        return whenSynced(informers, maxCheckInterval, interval -> CompletableFuture.delayedExecutor(interval, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * @param informers        the informers
+     * @param maxCheckInterval the maximal interval between the checks of the informers state
+     * @param delayedExecutor  the executor of the checks delayed by the given millis
+     * @return the future completed once all the informers synced up, cancelling it stops the checks
+     */
+    static CompletableFuture<Void> whenSynced(Collection<? extends SharedIndexInformer<?>> informers, Duration maxCheckInterval,
+                                              LongFunction<Executor> delayedExecutor) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        List<SharedIndexInformer<?>> pending = new ArrayList<>(informers);
+        long maxInterval = Math.max(1, maxCheckInterval.toMillis());
+        check(future, pending, Math.min(INITIAL_CHECK_INTERVAL_MILLIS, maxInterval), maxInterval, delayedExecutor);
+        return future;
+    }
+
+    private static void check(CompletableFuture<Void> future, List<SharedIndexInformer<?>> pending, long interval, long maxInterval,
+                              LongFunction<Executor> delayedExecutor) {
+        if (future.isDone()) {
+            return;
+        }
+        pending.removeIf(SharedIndexInformer::hasSynced);
+        if (pending.isEmpty()) {
+            future.complete(null);
+            return;
+        }
+        long nextInterval = Math.min(interval * 2, maxInterval);
+        delayedExecutor.apply(interval)
+                .execute(() -> check(future, pending, nextInterval, maxInterval, delayedExecutor));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client.informer;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.order.Ordered;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * Transforms the resources before they are stored in the {@link io.kubernetes.client.informer.SharedIndexInformer}
+ * cache, e.g. to drop the fields that are not needed by the resource event handlers to reduce the memory footprint
+ * of the cache. Every bean of this type is applied by the {@link SharedIndexInformerFactory} to the resources of the
+ * informers created for the resources assignable to the {@link #getApiType()}, in the order of the beans.
+ *
+ * <p>The resources are passed to the resource event handlers transformed. The built-in transformers of
+ * the {@code managedFields} and of the {@value #LAST_APPLIED_CONFIGURATION_ANNOTATION} annotation are enabled by
+ * {@link InformerConfiguration#isStripManagedFields()} and
+ * {@link InformerConfiguration#isStripLastAppliedConfiguration()}.</p>
+ *
+ * <p>The transformed resources must not be written back to the Kubernetes API by the update or replace calls, only
+ * patched, since replacing the resource erases the fields the transformers removed.</p>
+ *
+ * @param <ApiType> the transformed resource type
+ * @since 6.2
+ */
+public interface InformerTransformer<ApiType extends KubernetesObject> extends Ordered {
+
+    /**
+     * The annotation of the last configuration applied by {@code kubectl apply}.
+     */
+    String LAST_APPLIED_CONFIGURATION_ANNOTATION = "kubectl.kubernetes.io/last-applied-configuration";
+
+    /**
+     * The type of the transformed resources.
+     *
+     * @return the resource type
+     */
+    @NonNull
+    Class<ApiType> getApiType();
+
+    /**
+     * Transforms the resource, the resource can be modified in place.
+     *
+     * @param resource the resource as received from the Kubernetes API
+     * @return the transformed resource
+     */
+    @NonNull
+    ApiType transform(@NonNull ApiType resource);
+
+    /**
+     * Creates the transformer of the given function.
+     *
+     * @param apiType   the type of the transformed resources
+     * @param transform the transform function
+     * @param <ApiType> the transformed resource type
+     * @return the transformer
+     */
+    @NonNull
+    static <ApiType extends KubernetesObject> InformerTransformer<ApiType> of(@NonNull Class<ApiType> apiType,
+                                                                              @NonNull UnaryOperator<ApiType> transform) {
+        Objects.requireNonNull(apiType, "apiType is required to create transformer");
+        Objects.requireNonNull(transform, "transform is required to create transformer");
+        return new InformerTransformer<ApiType>() {
+            @Override
+            public Class<ApiType> getApiType() {
+                return apiType;
+            }
+
+            @Override
+            public ApiType transform(ApiType resource) {
+                return transform.apply(resource);
+            }
+        };
+    }
+
+    /**
+     * Creates the transformer that removes the {@code managedFields} of the resources metadata.
+     *
+     * @return the transformer
+     */
+    @NonNull
+    static InformerTransformer<KubernetesObject> stripManagedFields() {
+        return of(KubernetesObject.class, resource -> {
+            V1ObjectMeta metadata = resource.getMetadata();
+            if (metadata != null) {
+                metadata.setManagedFields(null);
+            }
+            return resource;
+        });
+    }
+
+    /**
+     * Creates the transformer that removes the {@value #LAST_APPLIED_CONFIGURATION_ANNOTATION} annotation of the
+     * resources.
+     *
+     * @return the transformer
+     */
+    @NonNull
+    static InformerTransformer<KubernetesObject> stripLastAppliedConfiguration() {
+        return of(KubernetesObject.class, resource -> {
+            V1ObjectMeta metadata = resource.getMetadata();
+            if (metadata != null && metadata.getAnnotations() != null
+                    && metadata.getAnnotations().containsKey(LAST_APPLIED_CONFIGURATION_ANNOTATION)) {
+                Map<String, String> annotations = new HashMap<>(metadata.getAnnotations());
+                annotations.remove(LAST_APPLIED_CONFIGURATION_ANNOTATION);
+                metadata.setAnnotations(annotations);
+            }
+            return resource;
+        });
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client.informer;
+
+import com.google.gson.annotations.SerializedName;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.micronaut.core.annotation.ReflectiveAccess;
+
+import java.util.Objects;
+
+/**
+ * The metadata-only representation of the Kubernetes resource, as returned by the API server when the resource is
+ * requested with the {@code application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1} media type.
+ *
+ * @since 6.2
+ */
+@ReflectiveAccess
+public class PartialObjectMetadata implements KubernetesObject {
+
+    public static final String MEDIA_TYPE = "application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1";
+
+    @SerializedName("apiVersion")
+    private String apiVersion;
+
+    @SerializedName("kind")
+    private String kind;
+
+    @SerializedName("metadata")
+    private V1ObjectMeta metadata;
+
+    @Override
+    public String getApiVersion() {
+        return apiVersion;
+    }
+
+    /**
+     * @param apiVersion the api version
+     */
+    public void setApiVersion(String apiVersion) {
+        this.apiVersion = apiVersion;
+    }
+
+    /**
+     * @param apiVersion the api version
+     * @return this object
+     */
+    public PartialObjectMetadata apiVersion(String apiVersion) {
+        this.apiVersion = apiVersion;
+        return this;
+    }
+
+    @Override
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * @param kind the kind
+     */
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * @param kind the kind
+     * @return this object
+     */
+    public PartialObjectMetadata kind(String kind) {
+        this.kind = kind;
+        return this;
+    }
+
+    @Override
+    public V1ObjectMeta getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * @param metadata the object metadata
+     */
+    public void setMetadata(V1ObjectMeta metadata) {
+        this.metadata = metadata;
+    }
+
+    /**
+     * @param metadata the object metadata
+     * @return this object
+     */
+    public PartialObjectMetadata metadata(V1ObjectMeta metadata) {
+        this.metadata = metadata;
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PartialObjectMetadata that = (PartialObjectMetadata) o;
+        return Objects.equals(apiVersion, that.apiVersion) &&
+                Objects.equals(kind, that.kind) &&
+                Objects.equals(metadata, that.metadata);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(apiVersion, kind, metadata);
+    }
+
+    @Override
+    public String toString() {
+        return "PartialObjectMetadata{" +
+                "apiVersion='" + apiVersion + '\'' +
+                ", kind='" + kind + '\'' +
+                ", metadata=" + metadata +
+                '}';
+    }
+}
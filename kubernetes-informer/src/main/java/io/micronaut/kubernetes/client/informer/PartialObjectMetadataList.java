@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client.informer;
+
+import com.google.gson.annotations.SerializedName;
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.micronaut.core.annotation.ReflectiveAccess;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The list of {@link PartialObjectMetadata}, as returned by the API server when the resources are listed with the
+ * {@code application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1} media type.
+ *
+ * @since 6.2
+ */
+@ReflectiveAccess
+public class PartialObjectMetadataList implements KubernetesListObject {
+
+    public static final String MEDIA_TYPE = "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1";
+
+    @SerializedName("apiVersion")
+    private String apiVersion;
+
+    @SerializedName("kind")
+    private String kind;
+
+    @SerializedName("metadata")
+    private V1ListMeta metadata;
+
+    @SerializedName("items")
+    private List<PartialObjectMetadata> items = new ArrayList<>();
+
+    @Override
+    public String getApiVersion() {
+        return apiVersion;
+    }
+
+    /**
+     * @param apiVersion the api version
+     */
+    public void setApiVersion(String apiVersion) {
+        this.apiVersion = apiVersion;
+    }
+
+    @Override
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * @param kind the kind
+     */
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    @Override
+    public V1ListMeta getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * @param metadata the list metadata
+     */
+    public void setMetadata(V1ListMeta metadata) {
+        this.metadata = metadata;
+    }
+
+    /**
+     * @param metadata the list metadata
+     * @return this list
+     */
+    public PartialObjectMetadataList metadata(V1ListMeta metadata) {
+        this.metadata = metadata;
+        return this;
+    }
+
+    @Override
+    public List<PartialObjectMetadata> getItems() {
+        return items;
+    }
+
+    /**
+     * @param items the metadata of the listed resources
+     */
+    public void setItems(List<PartialObjectMetadata> items) {
+        this.items = items;
+    }
+
+    /**
+     * @param items the metadata of the listed resources
+     * @return this list
+     */
+    public PartialObjectMetadataList items(List<PartialObjectMetadata> items) {
+        this.items = items;
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PartialObjectMetadataList that = (PartialObjectMetadataList) o;
+        return Objects.equals(apiVersion, that.apiVersion) &&
+                Objects.equals(kind, that.kind) &&
+                Objects.equals(metadata, that.metadata) &&
+                Objects.equals(items, that.items);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(apiVersion, kind, metadata, items);
+    }
+
+    @Override
+    public String toString() {
+        return "PartialObjectMetadataList{" +
+                "apiVersion='" + apiVersion + '\'' +
+                ", kind='" + kind + '\'' +
+                ", metadata=" + metadata +
+                ", items=" + items +
+                '}';
+    }
+}
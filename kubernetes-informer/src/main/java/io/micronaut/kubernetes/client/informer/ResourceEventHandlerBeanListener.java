@@ -20,28 +20,36 @@ import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.informer.ResourceEventHandler;
 import io.kubernetes.client.informer.SharedIndexInformer;
 import io.kubernetes.client.informer.SharedInformerFactory;
+import io.micronaut.context.BeanContext;
 import io.micronaut.context.annotation.Context;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.event.BeanCreatedEvent;
 import io.micronaut.context.event.BeanCreatedEventListener;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.kubernetes.client.informer.resolvers.InformerApiGroupResolver;
+import io.micronaut.kubernetes.client.informer.resolvers.InformerFieldSelectorResolver;
 import io.micronaut.kubernetes.client.informer.resolvers.InformerLabelSelectorResolver;
 import io.micronaut.kubernetes.client.informer.resolvers.InformerNamespaceResolver;
 import io.micronaut.kubernetes.client.informer.resolvers.InformerResourcePluralResolver;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 /**
  * BeanCreatedEventListener for the {@link ResourceEventHandler} beans annotated by {@link Informer} annotation that
  * based on provided parameters in the {@link Informer} annotation created the {@link SharedIndexInformer} and registers
- * {@link ResourceEventHandler} to the informer.
+ * {@link ResourceEventHandler} to the informer. The bean creation blocks until the informers synced up or the sync
+ * timeout elapsed, so the handler sees the complete informer caches.
  *
  * @param <ApiType> type of Kubernetes Object
  * @author Pavol Gressa
@@ -59,17 +67,52 @@ public class ResourceEventHandlerBeanListener<ApiType extends KubernetesObject>
     private final InformerResourcePluralResolver resourcePluralResolver;
     private final InformerNamespaceResolver namespaceResolver;
     private final InformerLabelSelectorResolver labelSelectorResolver;
+    private final InformerFieldSelectorResolver fieldSelectorResolver;
+    private final BeanContext beanContext;
 
+    /**
+     * @param sharedIndexInformerFactory the shared index informer factory
+     * @param apiGroupResolver           the api group resolver
+     * @param resourcePluralResolver     the resource plural resolver
+     * @param namespaceResolver          the namespace resolver
+     * @param labelSelectorResolver      the label selector resolver
+     * @deprecated Use new version {@link ResourceEventHandlerBeanListener#ResourceEventHandlerBeanListener(SharedIndexInformerFactory, InformerApiGroupResolver, InformerResourcePluralResolver, InformerNamespaceResolver, InformerLabelSelectorResolver, InformerFieldSelectorResolver, BeanContext)}
+     */
+    @Deprecated
     public ResourceEventHandlerBeanListener(SharedIndexInformerFactory sharedIndexInformerFactory,
                                             InformerApiGroupResolver apiGroupResolver,
                                             InformerResourcePluralResolver resourcePluralResolver,
                                             InformerNamespaceResolver namespaceResolver,
                                             InformerLabelSelectorResolver labelSelectorResolver) {
+        this(sharedIndexInformerFactory, apiGroupResolver, resourcePluralResolver, namespaceResolver,
+                labelSelectorResolver, informer -> informer.stringValue("fieldSelector").filter(StringUtils::isNotEmpty).orElse(null), null);
+    }
+
+    /**
+     * @param sharedIndexInformerFactory the shared index informer factory
+     * @param apiGroupResolver           the api group resolver
+     * @param resourcePluralResolver     the resource plural resolver
+     * @param namespaceResolver          the namespace resolver
+     * @param labelSelectorResolver      the label selector resolver
+     * @param fieldSelectorResolver      the field selector resolver
+     * @param beanContext                the bean context the executors of the dispatched events are resolved from
+     * @since 6.2
+     */
+    @Inject
+    public ResourceEventHandlerBeanListener(SharedIndexInformerFactory sharedIndexInformerFactory,
+                                            InformerApiGroupResolver apiGroupResolver,
+                                            InformerResourcePluralResolver resourcePluralResolver,
+                                            InformerNamespaceResolver namespaceResolver,
+                                            InformerLabelSelectorResolver labelSelectorResolver,
+                                            InformerFieldSelectorResolver fieldSelectorResolver,
+                                            BeanContext beanContext) {
         this.sharedIndexInformerFactory = sharedIndexInformerFactory;
         this.apiGroupResolver = apiGroupResolver;
         this.resourcePluralResolver = resourcePluralResolver;
         this.namespaceResolver = namespaceResolver;
         this.labelSelectorResolver = labelSelectorResolver;
+        this.fieldSelectorResolver = fieldSelectorResolver;
+        this.beanContext = beanContext;
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
@@ -92,6 +135,7 @@ public class ResourceEventHandlerBeanListener<ApiType extends KubernetesObject>
                 final String apiGroup = apiGroupResolver.resolveInformerApiGroup(annotationValue);
                 final Set<String> namespaces = namespaceResolver.resolveInformerNamespaces(annotationValue);
                 final String labelSelector = labelSelectorResolver.resolveInformerLabels(annotationValue);
+                final String fieldSelector = fieldSelectorResolver.resolveInformerFieldSelector(annotationValue);
                 final Long resyncCheckPeriod = annotationValue.get("resyncCheckPeriod", Long.class).orElse(0L);
 
                 List<SharedIndexInformer<? extends KubernetesObject>> informers = sharedIndexInformerFactory.sharedIndexInformersFor(
@@ -101,10 +145,12 @@ public class ResourceEventHandlerBeanListener<ApiType extends KubernetesObject>
                         apiGroup,
                         new ArrayList<>(namespaces),
                         labelSelector,
+                        fieldSelector,
                         resyncCheckPeriod,
                         true);
 
-                informers.forEach(i -> i.addEventHandler(resourceEventHandler));
+                ResourceEventHandler handler = dispatchingHandlerFor(annotationValue, resourceEventHandler);
+                informers.forEach(i -> i.addEventHandler(handler));
             } else {
                 if (LOG.isErrorEnabled()) {
                     LOG.error("Failed to create informer for the class [{}] that implements ResourceEventHandler. " +
@@ -114,4 +160,26 @@ public class ResourceEventHandlerBeanListener<ApiType extends KubernetesObject>
         }
         return event.getBean();
     }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private ResourceEventHandler dispatchingHandlerFor(AnnotationValue<Informer> annotationValue, ResourceEventHandler resourceEventHandler) {
+        int queueSize = annotationValue.intValue("dispatchQueueSize").orElse(0);
+        if (queueSize <= 0) {
+            return resourceEventHandler;
+        }
+        if (beanContext == null) {
+            throw new IllegalStateException("The events can't be dispatched to " + resourceEventHandler + " without the bean context");
+        }
+        String executorName = annotationValue.stringValue("dispatchExecutor").orElse(TaskExecutors.BLOCKING);
+        boolean coalesce = annotationValue.booleanValue("dispatchCoalesce").orElse(true);
+        DispatchingResourceEventHandler.OverflowPolicy overflowPolicy = annotationValue
+                .enumValue("dispatchOverflowPolicy", DispatchingResourceEventHandler.OverflowPolicy.class)
+                .orElse(DispatchingResourceEventHandler.OverflowPolicy.BLOCK);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Dispatching the events to {} through the queue of size {} on the '{}' executor, coalesce: {}, overflow policy: {}",
+                    resourceEventHandler, queueSize, executorName, coalesce, overflowPolicy);
+        }
+        ExecutorService executorService = beanContext.getBean(ExecutorService.class, Qualifiers.byName(executorName));
+        return new DispatchingResourceEventHandler(resourceEventHandler, executorService, queueSize, coalesce, overflowPolicy);
+    }
 }
@@ -19,8 +19,12 @@ import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.informer.SharedIndexInformer;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Informer factory interface.
@@ -55,6 +59,40 @@ public interface SharedIndexInformerFactory {
             @Nullable Long resyncCheckPeriod,
             boolean waitForSync);
 
+    /**
+     * Creates new {@link SharedIndexInformer} that lists and watches only the resources matching the field selector.
+     *
+     * @param apiTypeClass      api type class
+     * @param apiListTypeClass  api list type class
+     * @param resourcePlural    resource plural
+     * @param apiGroup          resource api group
+     * @param namespace         namespace
+     * @param labelSelector     label selector
+     * @param fieldSelector     field selector
+     * @param resyncCheckPeriod resync check period
+     * @param waitForSync       wait to let informer sync the resources
+     * @param <ApiType>         api type
+     * @param <ApiListType>     api list type
+     * @return the informer
+     * @since 6.2
+     */
+    default <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject> SharedIndexInformer<ApiType> sharedIndexInformerFor(
+            Class<ApiType> apiTypeClass,
+            Class<ApiListType> apiListTypeClass,
+            String resourcePlural,
+            String apiGroup,
+            @Nullable String namespace,
+            @Nullable String labelSelector,
+            @Nullable String fieldSelector,
+            @Nullable Long resyncCheckPeriod,
+            boolean waitForSync) {
+        if (StringUtils.isNotEmpty(fieldSelector)) {
+            throw new UnsupportedOperationException("Field selectors are not supported by " + getClass().getName());
+        }
+        return sharedIndexInformerFor(apiTypeClass, apiListTypeClass, resourcePlural, apiGroup, namespace,
+                labelSelector, resyncCheckPeriod, waitForSync);
+    }
+
     /**
      * Creates new {@link SharedIndexInformer}s for every namespace from {@code namespaces} param.
      *
@@ -81,6 +119,82 @@ public interface SharedIndexInformerFactory {
             boolean waitForSync
     );
 
+    /**
+     * Creates new metadata-only {@link SharedIndexInformer}. The informer lists and watches the {@link PartialObjectMetadata}
+     * of the resources instead of the full resources, which is sufficient when only the names, labels or annotations of
+     * the resources are needed.
+     *
+     * @param apiTypeClass      api type class of the resource
+     * @param resourcePlural    resource plural
+     * @param apiGroup          resource api group
+     * @param namespace         namespace
+     * @param labelSelector     label selector
+     * @param fieldSelector     field selector
+     * @param resyncCheckPeriod resync check period
+     * @param waitForSync       wait to let informer sync the resources
+     * @param <ApiType>         api type
+     * @return the metadata-only informer
+     * @since 6.2
+     */
+    default <ApiType extends KubernetesObject> SharedIndexInformer<PartialObjectMetadata> metadataInformerFor(
+            Class<ApiType> apiTypeClass,
+            String resourcePlural,
+            String apiGroup,
+            @Nullable String namespace,
+            @Nullable String labelSelector,
+            @Nullable String fieldSelector,
+            @Nullable Long resyncCheckPeriod,
+            boolean waitForSync) {
+        throw new UnsupportedOperationException("Metadata-only informers are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Get existing metadata-only {@link SharedIndexInformer}.
+     *
+     * @param namespace    namespace
+     * @param apiTypeClass api type class of the resource
+     * @return shared index informer or null if not found
+     * @since 6.2
+     */
+    default SharedIndexInformer<PartialObjectMetadata> getExistingMetadataInformer(String namespace, Class<? extends KubernetesObject> apiTypeClass) {
+        return null;
+    }
+
+    /**
+     * Creates new {@link SharedIndexInformer}s for every namespace from {@code namespaces} param, that list and watch
+     * only the resources matching the field selector.
+     *
+     * @param apiTypeClass      api type class
+     * @param apiListTypeClass  api list type class
+     * @param resourcePlural    resource plural
+     * @param apiGroup          resource api group
+     * @param namespaces        namespaces
+     * @param labelSelector     label selector
+     * @param fieldSelector     field selector
+     * @param resyncCheckPeriod resync check period
+     * @param waitForSync       wait to let informer sync the resources
+     * @param <ApiType>         api type
+     * @param <ApiListType>     api list type
+     * @return list of informers
+     * @since 6.2
+     */
+    default <ApiType extends KubernetesObject, ApiListType extends KubernetesListObject> List<SharedIndexInformer<? extends KubernetesObject>> sharedIndexInformersFor(
+            Class<ApiType> apiTypeClass,
+            Class<ApiListType> apiListTypeClass,
+            String resourcePlural,
+            String apiGroup,
+            @Nullable List<String> namespaces,
+            @Nullable String labelSelector,
+            @Nullable String fieldSelector,
+            @Nullable Long resyncCheckPeriod,
+            boolean waitForSync) {
+        if (StringUtils.isNotEmpty(fieldSelector)) {
+            throw new UnsupportedOperationException("Field selectors are not supported by " + getClass().getName());
+        }
+        return sharedIndexInformersFor(apiTypeClass, apiListTypeClass, resourcePlural, apiGroup, namespaces,
+                labelSelector, resyncCheckPeriod, waitForSync);
+    }
+
     /**
      * Get existing {@link SharedIndexInformer}.
      *
@@ -98,6 +212,31 @@ public interface SharedIndexInformerFactory {
      */
     List<SharedIndexInformer> getExistingSharedIndexInformers();
 
+    /**
+     * Creates the {@link CompletableFuture} completed once all the given informers synced up, i.e. the initial list
+     * of the resources is in their caches. Unlike the {@code waitForSync} flag of the informer creation, no thread is
+     * blocked while waiting. Cancelling the future stops waiting.
+     *
+     * @param informers the informers
+     * @return the future completed once all the informers synced up
+     * @since 6.2
+     */
+    default CompletableFuture<Void> whenSynced(Collection<? extends SharedIndexInformer<?>> informers) {
+        return InformerSyncFutures.whenSynced(informers, Duration.ofMillis(500));
+    }
+
+    /**
+     * Get the statistics of the list and watch calls of the informer created by this factory.
+     *
+     * @param informer the informer
+     * @return the statistics or null if not tracked for the informer
+     * @since 6.2
+     */
+    @Nullable
+    default InformerListWatchStatistics getListWatchStatistics(SharedIndexInformer<?> informer) {
+        return null;
+    }
+
     /**
      * Start all registered informers.
      */
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client.informer.resolvers;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.kubernetes.client.informer.EmptyFieldSelectorSupplier;
+import io.micronaut.kubernetes.client.informer.Informer;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * The default implementation of {@link InformerFieldSelectorResolver}.
+ *
+ * @since 6.2
+ */
+@Singleton
+public class DefaultInformerFieldSelectorResolver implements InformerFieldSelectorResolver {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultInformerFieldSelectorResolver.class);
+
+    private final BeanContext beanContext;
+
+    public DefaultInformerFieldSelectorResolver(@NonNull BeanContext beanContext) {
+        this.beanContext = beanContext;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    @Nullable
+    public String resolveInformerFieldSelector(@NonNull AnnotationValue<Informer> informer) {
+        String fieldSelector = null;
+
+        Optional<String> fieldSelectorOptional = informer.get("fieldSelector", String.class);
+        if (fieldSelectorOptional.isPresent() && StringUtils.isNotEmpty(fieldSelectorOptional.get())) {
+            fieldSelector = fieldSelectorOptional.get();
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Resolved [{}] field selector from @Informer's 'fieldSelector' value", fieldSelector);
+            }
+        }
+
+        Optional<Class<? extends Supplier>> fieldSelectorSupplier = informer.classValue("fieldSelectorSupplier", Supplier.class);
+        if (fieldSelectorSupplier.isPresent() && !Objects.equals(fieldSelectorSupplier.get(), EmptyFieldSelectorSupplier.class)) {
+            Class<? extends Supplier<String>> selectorSupplierClass = (Class<? extends Supplier<String>>) fieldSelectorSupplier.get();
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Resolved [{}] field selector supplier from @Informer's 'fieldSelectorSupplier' value", selectorSupplierClass);
+            }
+            String suppliedFieldSelector = beanContext.getBean(selectorSupplierClass).get();
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Resolved [{}] field selector from field selector supplier", suppliedFieldSelector);
+            }
+            if (StringUtils.isNotEmpty(suppliedFieldSelector)) {
+                fieldSelector = fieldSelector == null ? suppliedFieldSelector : fieldSelector + "," + suppliedFieldSelector;
+            }
+        }
+
+        if (LOG.isInfoEnabled()) {
+            LOG.info(informer + " resolved fieldSelector [" + fieldSelector + "]");
+        }
+        return fieldSelector;
+    }
+}
@@ -0,0 +1,84 @@
+package io.micronaut.kubernetes.client.informer
+
+import io.kubernetes.client.informer.SharedIndexInformer
+import io.kubernetes.client.openapi.ApiClient
+import io.kubernetes.client.openapi.models.V1ConfigMap
+import io.kubernetes.client.openapi.models.V1ConfigMapList
+import jakarta.inject.Provider
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+class DefaultSharedIndexInformerFactoryNamespacesSpec extends Specification {
+
+    List<String> calls = []
+    List<Collection<? extends SharedIndexInformer<?>>> awaited = []
+
+    def "it starts the informers of all the namespaces together and waits for them at once"() {
+        given:
+        def factory = factory(0)
+
+        when:
+        def informers = factory.sharedIndexInformersFor(V1ConfigMap, V1ConfigMapList, "configmaps", "",
+                ["b", "a", "c"], null, null, null, true)
+
+        then:
+        informers.size() == 3
+        calls == ["start", "whenSynced"]
+        awaited.size() == 1
+        awaited[0] as List == informers
+    }
+
+    def "it returns the informers in the order of the requested namespaces"() {
+        given:
+        def factory = factory(0)
+
+        when:
+        def informers = factory.sharedIndexInformersFor(V1ConfigMap, V1ConfigMapList, "configmaps", "",
+                ["b", "a", "c"], null, null, null, false)
+
+        then:
+        informers == ["b", "a", "c"].collect { factory.getExistingSharedIndexInformer(it, V1ConfigMap) }
+        informers.toSet().size() == 3
+        calls == ["start"]
+        awaited.isEmpty()
+    }
+
+    def "it returns the single informer of all the namespaces above the threshold"() {
+        given:
+        def factory = factory(2)
+
+        when:
+        def informers = factory.sharedIndexInformersFor(V1ConfigMap, V1ConfigMapList, "configmaps", "",
+                ["b", "a", "c"], null, null, null, true)
+
+        then:
+        informers.size() == 1
+        ["a", "b", "c"].every { factory.getExistingSharedIndexInformer(it, V1ConfigMap).is(informers[0]) }
+        calls == ["start", "whenSynced"]
+        awaited[0] as List == informers
+    }
+
+    private DefaultSharedIndexInformerFactory factory(int allNamespacesThreshold) {
+        def informerConfiguration = Stub(InformerConfiguration) {
+            getSyncTimeout() >> 1
+            getSyncStepTimeout() >> 10
+            getResyncPeriod() >> Optional.empty()
+            getAllNamespacesThreshold() >> allNamespacesThreshold
+        }
+        def apiClient = new ApiClient().setBasePath("http://localhost:1")
+        new DefaultSharedIndexInformerFactory(informerConfiguration, null, { apiClient } as Provider<ApiClient>, [], []) {
+            @Override
+            synchronized void startAllRegisteredInformers() {
+                calls << "start"
+            }
+
+            @Override
+            CompletableFuture<Void> whenSynced(Collection<? extends SharedIndexInformer<?>> informers) {
+                calls << "whenSynced"
+                awaited << informers
+                CompletableFuture.completedFuture(null)
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package io.micronaut.kubernetes.client.informer
+
+import io.kubernetes.client.informer.ResourceEventHandler
+import io.kubernetes.client.openapi.models.V1ConfigMap
+import io.kubernetes.client.openapi.models.V1ObjectMeta
+import spock.lang.Specification
+
+import java.util.concurrent.Executor
+
+class DispatchingResourceEventHandlerSpec extends Specification {
+
+    List<Runnable> tasks = []
+    Executor executor = { Runnable task -> tasks << task } as Executor
+    List<String> events = []
+    ResourceEventHandler<V1ConfigMap> delegate = new ResourceEventHandler<V1ConfigMap>() {
+        @Override
+        void onAdd(V1ConfigMap obj) {
+            events << "add ${obj.metadata.name}@${obj.metadata.resourceVersion}"
+        }
+
+        @Override
+        void onUpdate(V1ConfigMap oldObj, V1ConfigMap newObj) {
+            events << "update ${newObj.metadata.name}@${oldObj.metadata.resourceVersion}->${newObj.metadata.resourceVersion}"
+        }
+
+        @Override
+        void onDelete(V1ConfigMap obj, boolean deletedFinalStateUnknown) {
+            events << "delete ${obj.metadata.name}@${obj.metadata.resourceVersion}"
+        }
+    }
+
+    def "it coalesces the queued events of the same resource"() {
+        given:
+        def handler = new DispatchingResourceEventHandler<V1ConfigMap>(delegate, executor, 10, true, DispatchingResourceEventHandler.OverflowPolicy.BLOCK)
+
+        when:
+        handler.onAdd(configMap("a", "1"))
+        handler.onUpdate(configMap("a", "1"), configMap("a", "2"))
+        handler.onUpdate(configMap("b", "1"), configMap("b", "2"))
+        handler.onUpdate(configMap("b", "2"), configMap("b", "3"))
+        handler.onUpdate(configMap("c", "1"), configMap("c", "2"))
+        handler.onDelete(configMap("c", "2"), false)
+        handler.onAdd(configMap("d", "1"))
+        handler.onDelete(configMap("d", "1"), false)
+        handler.onAdd(configMap("c", "3"))
+
+        then:
+        tasks.size() == 1
+        handler.queuedCount == 4
+
+        when:
+        tasks.remove(0).run()
+
+        then:
+        events == ["add a@2", "update b@1->3", "delete c@2", "add c@3"]
+        handler.queuedCount == 0
+    }
+
+    def "it dispatches all the events when not coalescing"() {
+        given:
+        def handler = new DispatchingResourceEventHandler<V1ConfigMap>(delegate, executor, 10, false, DispatchingResourceEventHandler.OverflowPolicy.BLOCK)
+
+        when:
+        handler.onAdd(configMap("a", "1"))
+        handler.onUpdate(configMap("a", "1"), configMap("a", "2"))
+        tasks.remove(0).run()
+
+        then:
+        events == ["add a@1", "update a@1->2"]
+    }
+
+    def "it drops the events according to the overflow policy"() {
+        given:
+        def handler = new DispatchingResourceEventHandler<V1ConfigMap>(delegate, executor, 2, true, overflowPolicy)
+
+        when:
+        handler.onAdd(configMap("a", "1"))
+        handler.onAdd(configMap("b", "1"))
+        handler.onUpdate(configMap("a", "1"), configMap("a", "2"))
+        handler.onAdd(configMap("c", "1"))
+        tasks.remove(0).run()
+
+        then:
+        handler.droppedCount == 1
+        events == expected
+
+        where:
+        overflowPolicy                                             || expected
+        DispatchingResourceEventHandler.OverflowPolicy.DROP_NEWEST || ["add a@2", "add b@1"]
+        DispatchingResourceEventHandler.OverflowPolicy.DROP_OLDEST || ["add b@1", "add c@1"]
+    }
+
+    def "it blocks until there is room in the queue"() {
+        given:
+        Thread blocked = null
+        def waiting = new ResourceEventHandler<V1ConfigMap>() {
+            @Override
+            void onAdd(V1ConfigMap obj) {
+                // the room is made once the event is taken, the blocked event is then queued before the drain goes on
+                if (obj.metadata.name == "a") {
+                    blocked.join(5000)
+                }
+                delegate.onAdd(obj)
+            }
+
+            @Override
+            void onUpdate(V1ConfigMap oldObj, V1ConfigMap newObj) {
+                delegate.onUpdate(oldObj, newObj)
+            }
+
+            @Override
+            void onDelete(V1ConfigMap obj, boolean deletedFinalStateUnknown) {
+                delegate.onDelete(obj, deletedFinalStateUnknown)
+            }
+        }
+        def handler = new DispatchingResourceEventHandler<V1ConfigMap>(waiting, executor, 1, true, DispatchingResourceEventHandler.OverflowPolicy.BLOCK)
+        handler.onAdd(configMap("a", "1"))
+
+        when:
+        blocked = Thread.start { handler.onAdd(configMap("b", "1")) }
+        blocked.join(200)
+
+        then:
+        blocked.alive
+        handler.queuedCount == 1
+
+        when:
+        tasks.remove(0).run()
+
+        then:
+        !blocked.alive
+        events == ["add a@1", "add b@1"]
+        handler.queuedCount == 0
+        tasks.isEmpty()
+    }
+
+    def "it keeps dispatching the events after the handler throws an error"() {
+        given:
+        def failing = new ResourceEventHandler<V1ConfigMap>() {
+            @Override
+            void onAdd(V1ConfigMap obj) {
+                if (obj.metadata.name == "a") {
+                    throw new AssertionError("failed")
+                }
+                delegate.onAdd(obj)
+            }
+
+            @Override
+            void onUpdate(V1ConfigMap oldObj, V1ConfigMap newObj) {
+                delegate.onUpdate(oldObj, newObj)
+            }
+
+            @Override
+            void onDelete(V1ConfigMap obj, boolean deletedFinalStateUnknown) {
+                delegate.onDelete(obj, deletedFinalStateUnknown)
+            }
+        }
+        def handler = new DispatchingResourceEventHandler<V1ConfigMap>(failing, executor, 10, true, DispatchingResourceEventHandler.OverflowPolicy.BLOCK)
+
+        when:
+        handler.onAdd(configMap("a", "1"))
+        handler.onAdd(configMap("b", "1"))
+        tasks.remove(0).run()
+
+        then:
+        events == ["add b@1"]
+        handler.queuedCount == 0
+
+        when:
+        handler.onAdd(configMap("c", "1"))
+        tasks.remove(0).run()
+
+        then:
+        events == ["add b@1", "add c@1"]
+    }
+
+    private static V1ConfigMap configMap(String name, String resourceVersion) {
+        new V1ConfigMap().metadata(new V1ObjectMeta().name(name).namespace("default").resourceVersion(resourceVersion))
+    }
+}
@@ -0,0 +1,42 @@
+package io.micronaut.kubernetes.client.informer
+
+import io.kubernetes.client.informer.ListerWatcher
+import io.kubernetes.client.openapi.models.V1ConfigMap
+import io.kubernetes.client.openapi.models.V1ConfigMapList
+import io.kubernetes.client.util.CallGeneratorParams
+import spock.lang.Specification
+
+class InformerListWatchStatisticsSpec extends Specification {
+
+    def "it counts the watches resumed without relisting"() {
+        given:
+        def statistics = new InformerListWatchStatistics()
+        def delegate = Mock(ListerWatcher)
+        def listerWatcher = new DefaultSharedIndexInformerFactory.CountingListerWatcher<V1ConfigMap, V1ConfigMapList>(
+                delegate, statistics, new DefaultSharedIndexInformerFactory.NamespaceResourceClassType("default", V1ConfigMap))
+
+        when: "the initial list is watched and resumed twice"
+        listerWatcher.list(new CallGeneratorParams(false, null, null))
+        listerWatcher.watch(new CallGeneratorParams(true, "1", 300))
+        listerWatcher.watch(new CallGeneratorParams(true, "5", 300))
+        listerWatcher.watch(new CallGeneratorParams(true, "7", 300))
+
+        then:
+        1 * delegate.list(_)
+        3 * delegate.watch(_)
+        statistics.listCount == 1
+        statistics.relistCount == 0
+        statistics.watchCount == 3
+        statistics.resumeCount == 2
+
+        when: "the resource version is gone and the resources are relisted"
+        listerWatcher.list(new CallGeneratorParams(false, null, null))
+        listerWatcher.watch(new CallGeneratorParams(true, "20", 300))
+
+        then:
+        statistics.listCount == 2
+        statistics.relistCount == 1
+        statistics.watchCount == 4
+        statistics.resumeCount == 2
+    }
+}
@@ -0,0 +1,93 @@
+package io.micronaut.kubernetes.client.informer
+
+import io.kubernetes.client.informer.SharedIndexInformer
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.Executor
+import java.util.function.LongFunction
+
+class InformerSyncFuturesSpec extends Specification {
+
+    List<Long> delays = []
+    List<Runnable> checks = []
+    LongFunction<Executor> delayedExecutor = { long delay ->
+        { Runnable check ->
+            delays << delay
+            checks << check
+        } as Executor
+    } as LongFunction<Executor>
+
+    def "it completes once all the informers synced up"() {
+        given:
+        def firstSynced = false
+        def secondSynced = false
+        def first = Stub(SharedIndexInformer) { hasSynced() >> { firstSynced } }
+        def second = Stub(SharedIndexInformer) { hasSynced() >> { secondSynced } }
+
+        when:
+        def future = InformerSyncFutures.whenSynced([first, second], Duration.ofMillis(50), delayedExecutor)
+
+        then:
+        !future.isDone()
+        checks.size() == 1
+
+        when:
+        firstSynced = true
+        checks.remove(0).run()
+
+        then:
+        !future.isDone()
+        checks.size() == 1
+
+        when:
+        secondSynced = true
+        checks.remove(0).run()
+
+        then:
+        future.isDone()
+        !future.isCompletedExceptionally()
+        checks.isEmpty()
+    }
+
+    def "it checks the informers more often right after they were started"() {
+        given:
+        def informer = Stub(SharedIndexInformer) { hasSynced() >> false }
+
+        when:
+        InformerSyncFutures.whenSynced([informer], Duration.ofMillis(50), delayedExecutor)
+        4.times { checks.remove(0).run() }
+
+        then:
+        delays == [10L, 20L, 40L, 50L, 50L]
+    }
+
+    def "it is completed right away when the informers synced up"() {
+        given:
+        def informer = Stub(SharedIndexInformer) { hasSynced() >> true }
+
+        expect:
+        InformerSyncFutures.whenSynced([informer], Duration.ofMillis(500), delayedExecutor).isDone()
+        InformerSyncFutures.whenSynced([], Duration.ofMillis(500), delayedExecutor).isDone()
+        checks.isEmpty()
+    }
+
+    def "it stops checking the informers once cancelled"() {
+        given:
+        def informer = Mock(SharedIndexInformer)
+
+        when:
+        def future = InformerSyncFutures.whenSynced([informer], Duration.ofMillis(10), delayedExecutor)
+
+        then:
+        1 * informer.hasSynced() >> false
+
+        when:
+        future.cancel(false)
+        checks.remove(0).run()
+
+        then:
+        0 * informer.hasSynced()
+        checks.isEmpty()
+    }
+}
@@ -0,0 +1,45 @@
+package io.micronaut.kubernetes.client.informer
+
+import io.kubernetes.client.openapi.models.V1ConfigMap
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry
+import io.kubernetes.client.openapi.models.V1ObjectMeta
+import spock.lang.Specification
+
+class InformerTransformerSpec extends Specification {
+
+    def "it strips the managed fields"() {
+        given:
+        def configMap = new V1ConfigMap().metadata(new V1ObjectMeta().name("foo")
+                .managedFields([new V1ManagedFieldsEntry().manager("kubectl")]))
+
+        when:
+        def transformed = InformerTransformer.stripManagedFields().transform(configMap)
+
+        then:
+        transformed.metadata.name == "foo"
+        transformed.metadata.managedFields == null
+    }
+
+    def "it strips the last applied configuration annotation"() {
+        given:
+        def configMap = new V1ConfigMap().metadata(new V1ObjectMeta().name("foo")
+                .annotations(Collections.unmodifiableMap([
+                        (InformerTransformer.LAST_APPLIED_CONFIGURATION_ANNOTATION): "{}",
+                        "foo"                                                     : "bar"])))
+
+        when:
+        def transformed = InformerTransformer.stripLastAppliedConfiguration().transform(configMap)
+
+        then:
+        transformed.metadata.annotations == [foo: "bar"]
+    }
+
+    def "it keeps the resources without metadata"() {
+        given:
+        def configMap = new V1ConfigMap()
+
+        expect:
+        InformerTransformer.stripManagedFields().transform(configMap).is(configMap)
+        InformerTransformer.stripLastAppliedConfiguration().transform(configMap).is(configMap)
+    }
+}
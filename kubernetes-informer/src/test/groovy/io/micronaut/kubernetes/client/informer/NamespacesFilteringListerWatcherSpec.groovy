@@ -0,0 +1,61 @@
+package io.micronaut.kubernetes.client.informer
+
+import io.kubernetes.client.informer.ListerWatcher
+import io.kubernetes.client.openapi.models.V1ConfigMap
+import io.kubernetes.client.openapi.models.V1ConfigMapList
+import io.kubernetes.client.openapi.models.V1ObjectMeta
+import io.kubernetes.client.util.CallGeneratorParams
+import io.kubernetes.client.util.Watch
+import io.kubernetes.client.util.Watchable
+import spock.lang.Specification
+
+class NamespacesFilteringListerWatcherSpec extends Specification {
+
+    def "it keeps just the listed resources of the watched namespaces"() {
+        given:
+        def delegate = Stub(ListerWatcher) {
+            list(_) >> new V1ConfigMapList().items([configMap("a", "foo"), configMap("b", "bar"), configMap("c", "baz")])
+        }
+        def listerWatcher = new DefaultSharedIndexInformerFactory.NamespacesFilteringListerWatcher<V1ConfigMap, V1ConfigMapList>(delegate, ["foo", "baz"] as Set)
+
+        expect:
+        listerWatcher.list(new CallGeneratorParams(false, null, null)).items*.metadata*.name == ["a", "c"]
+    }
+
+    def "it passes just the watch events of the watched namespaces"() {
+        given:
+        def responses = [
+                new Watch.Response("ADDED", configMap("a", "foo")),
+                new Watch.Response("ADDED", configMap("b", "bar")),
+                new Watch.Response("MODIFIED", configMap("c", "bar")),
+                new Watch.Response("BOOKMARK", null),
+                new Watch.Response("DELETED", configMap("d", "baz")),
+                new Watch.Response("MODIFIED", configMap("e", "bar")),
+        ]
+        def delegateWatchable = Mock(Watchable) {
+            def iterator = responses.iterator()
+            hasNext() >> { iterator.hasNext() }
+            next() >> { iterator.next() }
+        }
+        def delegate = Stub(ListerWatcher) {
+            watch(_) >> delegateWatchable
+        }
+        def listerWatcher = new DefaultSharedIndexInformerFactory.NamespacesFilteringListerWatcher<V1ConfigMap, V1ConfigMapList>(delegate, ["foo", "baz"] as Set)
+
+        when:
+        def watchable = listerWatcher.watch(new CallGeneratorParams(true, null, null))
+        def types = []
+        while (watchable.hasNext()) {
+            types << watchable.next().type
+        }
+        watchable.close()
+
+        then:
+        types == ["ADDED", "BOOKMARK", "DELETED"]
+        1 * delegateWatchable.close()
+    }
+
+    private static V1ConfigMap configMap(String name, String namespace) {
+        new V1ConfigMap().metadata(new V1ObjectMeta().name(name).namespace(namespace))
+    }
+}
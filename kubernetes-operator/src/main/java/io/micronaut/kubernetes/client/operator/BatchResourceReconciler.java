@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client.operator;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.extended.controller.reconciler.Request;
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link ResourceReconciler} that reconciles several resources at once, e.g. to amortize the calls of the external
+ * system or the Kubernetes API across the resources.
+ * <p>
+ * The requests taken from the work queue by the controller workers are collected for the {@link Operator#batchWindow()},
+ * but no longer than the batch reaches the {@link Operator#batchSize()}, and then reconciled together. The work queue
+ * never hands out the same request twice at a time, therefore the batch contains no duplicates and its size is limited
+ * by the controller worker count. The batch holding all the workers is reconciled immediately, the large batches
+ * require the {@code kubernetes.client.operator.worker-count} to be raised to match the {@link Operator#batchSize()}.
+ *
+ * <pre class="code">
+ * &#064;Operator(informer = @Informer(apiType = V1ConfigMap.class, apiListType = V1ConfigMapList.class), batchSize = 50)
+ * public class MyBatchReconciler implements BatchResourceReconciler&lt;V1ConfigMap&gt; {
+ *
+ *   &#064;Override
+ *   public Map&lt;Request, Result&gt; reconcile(&#064;NonNull List&lt;Request&gt; requests, &#064;NonNull OperatorResourceLister&lt;V1ConfigMap&gt; lister) {
+ *      // reconcile
+ *      return Collections.emptyMap();
+ *   }
+ *}
+ * </pre>
+ *
+ * @param <ApiType> api type of the reconciler
+ * @since 6.2
+ */
+public interface BatchResourceReconciler<ApiType extends KubernetesObject> extends ResourceReconciler<ApiType> {
+
+    int DEFAULT_BATCH_SIZE = 100;
+
+    long DEFAULT_BATCH_WINDOW = 100L;
+
+    /**
+     * Reconcile the resources identified by the {@link Request}s. This operation is required to be idempotent.
+     * <p>
+     * The requests missing in the returned results are not requeued. If the operation throws an exception, all the
+     * requests are requeued.
+     *
+     * @param requests the distinct requests
+     * @param lister   lister for given operator's reconciler
+     * @return the results of the requests
+     */
+    @NonNull
+    Map<Request, Result> reconcile(@NonNull List<Request> requests, @NonNull OperatorResourceLister<ApiType> lister);
+
+    /**
+     * Reconcile the resource identified by the {@link Request} as the batch of single request.
+     *
+     * @param request request
+     * @param lister  lister for given operator's reconciler
+     * @return result
+     */
+    @NonNull
+    @Override
+    default Result reconcile(@NonNull Request request, @NonNull OperatorResourceLister<ApiType> lister) {
+        Result result = reconcile(Collections.singletonList(request), lister).get(request);
+        return result != null ? result : new Result(false);
+    }
+}
@@ -20,6 +20,7 @@ import io.kubernetes.client.common.KubernetesObject;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 
+import java.time.Duration;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
@@ -89,6 +90,52 @@ public interface ControllerConfiguration {
     @NonNull
     String getLabelSelector();
 
+    /**
+     * The operator's informer field selector.
+     *
+     * @return field selector
+     * @see <a href="https://kubernetes.io/docs/concepts/overview/working-with-objects/field-selectors/">Field selectors</a>
+     * @since 6.2
+     */
+    @NonNull
+    default String getFieldSelector() {
+        return "";
+    }
+
+    /**
+     * The name of the operator's work queue configuration, see
+     * {@link io.micronaut.kubernetes.client.operator.configuration.WorkQueueConfigurationProperties}. If empty then
+     * the default work queue is used.
+     *
+     * @return work queue name
+     * @since 6.2
+     */
+    @NonNull
+    default String getWorkQueue() {
+        return "";
+    }
+
+    /**
+     * The maximal number of the requests reconciled at once by the {@link BatchResourceReconciler}.
+     *
+     * @return max batch size
+     * @since 6.2
+     */
+    default int getBatchSize() {
+        return BatchResourceReconciler.DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * The time the requests are collected for the {@link BatchResourceReconciler} before they are reconciled.
+     *
+     * @return batch window
+     * @since 6.2
+     */
+    @NonNull
+    default Duration getBatchWindow() {
+        return Duration.ofMillis(BatchResourceReconciler.DEFAULT_BATCH_WINDOW);
+    }
+
     /**
      * How often to check if the listener need a resync.
      *
@@ -23,13 +23,17 @@ import io.micronaut.context.annotation.Prototype;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.kubernetes.client.informer.Informer;
+import io.micronaut.kubernetes.client.informer.resolvers.DefaultInformerFieldSelectorResolver;
 import io.micronaut.kubernetes.client.informer.resolvers.InformerApiGroupResolver;
+import io.micronaut.kubernetes.client.informer.resolvers.InformerFieldSelectorResolver;
 import io.micronaut.kubernetes.client.informer.resolvers.InformerLabelSelectorResolver;
 import io.micronaut.kubernetes.client.informer.resolvers.InformerNamespaceResolver;
 import io.micronaut.kubernetes.client.informer.resolvers.InformerResourcePluralResolver;
 import io.micronaut.kubernetes.client.informer.InformerAnnotationUtils;
+import jakarta.inject.Inject;
 
 import javax.naming.ConfigurationException;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
@@ -49,17 +53,48 @@ public class ControllerConfigurationFactory {
     private final InformerResourcePluralResolver resourcePluralResolver;
     private final InformerNamespaceResolver namespaceResolver;
     private final InformerLabelSelectorResolver labelSelectorResolver;
+    private final InformerFieldSelectorResolver fieldSelectorResolver;
 
+    /**
+     * @param beanContext            the bean context
+     * @param apiGroupResolver       the api group resolver
+     * @param resourcePluralResolver the resource plural resolver
+     * @param namespaceResolver      the namespace resolver
+     * @param labelSelectorResolver  the label selector resolver
+     * @deprecated Use new version {@link ControllerConfigurationFactory#ControllerConfigurationFactory(BeanContext, InformerApiGroupResolver, InformerResourcePluralResolver, InformerNamespaceResolver, InformerLabelSelectorResolver, InformerFieldSelectorResolver)}
+     */
+    @Deprecated
     public ControllerConfigurationFactory(@NonNull BeanContext beanContext,
                                           @NonNull InformerApiGroupResolver apiGroupResolver,
                                           @NonNull InformerResourcePluralResolver resourcePluralResolver,
                                           @NonNull InformerNamespaceResolver namespaceResolver,
                                           @NonNull InformerLabelSelectorResolver labelSelectorResolver) {
+        this(beanContext, apiGroupResolver, resourcePluralResolver, namespaceResolver, labelSelectorResolver,
+                new DefaultInformerFieldSelectorResolver(beanContext));
+    }
+
+    /**
+     * @param beanContext            the bean context
+     * @param apiGroupResolver       the api group resolver
+     * @param resourcePluralResolver the resource plural resolver
+     * @param namespaceResolver      the namespace resolver
+     * @param labelSelectorResolver  the label selector resolver
+     * @param fieldSelectorResolver  the field selector resolver
+     * @since 6.2
+     */
+    @Inject
+    public ControllerConfigurationFactory(@NonNull BeanContext beanContext,
+                                          @NonNull InformerApiGroupResolver apiGroupResolver,
+                                          @NonNull InformerResourcePluralResolver resourcePluralResolver,
+                                          @NonNull InformerNamespaceResolver namespaceResolver,
+                                          @NonNull InformerLabelSelectorResolver labelSelectorResolver,
+                                          @NonNull InformerFieldSelectorResolver fieldSelectorResolver) {
         this.beanContext = beanContext;
         this.apiGroupResolver = apiGroupResolver;
         this.resourcePluralResolver = resourcePluralResolver;
         this.namespaceResolver = namespaceResolver;
         this.labelSelectorResolver = labelSelectorResolver;
+        this.fieldSelectorResolver = fieldSelectorResolver;
     }
 
     /**
@@ -88,6 +123,10 @@ public class ControllerConfigurationFactory {
                 .withResourcePlural(resourcePluralResolver.resolveInformerResourcePlural(informer))
                 .withNamespaces(namespaceResolver.resolveInformerNamespaces(informer))
                 .withLabelSelector(labelSelectorResolver.resolveInformerLabels(informer))
+                .withFieldSelector(fieldSelectorResolver.resolveInformerFieldSelector(informer))
+                .withWorkQueue(annotationValue.stringValue("workQueue").orElse(""))
+                .withBatchSize(annotationValue.intValue("batchSize").orElse(BatchResourceReconciler.DEFAULT_BATCH_SIZE))
+                .withBatchWindow(Duration.ofMillis(annotationValue.longValue("batchWindow").orElse(BatchResourceReconciler.DEFAULT_BATCH_WINDOW)))
                 .withOnAddFilter(getOnAddFilter(annotationValue))
                 .withOnUpdateFilter(getOnUpdateFilter(annotationValue))
                 .withOnDeleteFilter(getOnDeleteFilter(annotationValue))
@@ -20,6 +20,7 @@ import io.kubernetes.client.common.KubernetesObject;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 
+import java.time.Duration;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
@@ -40,6 +41,10 @@ public class ControllerConfigurationImpl implements ControllerConfiguration {
     private String apiGroup;
     private Set<String> namespaces;
     private String labelSelector;
+    private String fieldSelector;
+    private String workQueue;
+    private int batchSize = BatchResourceReconciler.DEFAULT_BATCH_SIZE;
+    private Duration batchWindow = Duration.ofMillis(BatchResourceReconciler.DEFAULT_BATCH_WINDOW);
     private Long resyncCheckPeriod;
     private Predicate<? extends KubernetesObject> onAddFilter;
     private BiPredicate<? extends KubernetesObject, ? extends KubernetesObject> onUpdateFilter;
@@ -118,6 +123,51 @@ public class ControllerConfigurationImpl implements ControllerConfiguration {
         return labelSelector;
     }
 
+    /**
+     *
+     * @return field selector
+     */
+    @Override
+    @NonNull
+    public String getFieldSelector() {
+        if (fieldSelector == null) {
+            return "";
+        }
+        return fieldSelector;
+    }
+
+    /**
+     *
+     * @return work queue name
+     */
+    @Override
+    @NonNull
+    public String getWorkQueue() {
+        if (workQueue == null) {
+            return "";
+        }
+        return workQueue;
+    }
+
+    /**
+     *
+     * @return max batch size
+     */
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     *
+     * @return batch window
+     */
+    @Override
+    @NonNull
+    public Duration getBatchWindow() {
+        return batchWindow;
+    }
+
     /**
      *
      * @return resync check period
@@ -169,6 +219,10 @@ public class ControllerConfigurationImpl implements ControllerConfiguration {
                 ", apiGroup='" + apiGroup + '\'' +
                 ", namespaces=" + namespaces +
                 ", labelSelector='" + labelSelector + '\'' +
+                ", fieldSelector='" + fieldSelector + '\'' +
+                ", workQueue='" + workQueue + '\'' +
+                ", batchSize=" + batchSize +
+                ", batchWindow=" + batchWindow +
                 ", resyncCheckPeriod=" + resyncCheckPeriod +
                 ", onAddFilter=" + onAddFilter +
                 ", onUpdateFilter=" + onUpdateFilter +
@@ -257,6 +311,46 @@ public class ControllerConfigurationImpl implements ControllerConfiguration {
             return this;
         }
 
+        /**
+         * Set the field selector.
+         * @param fieldSelector field selector
+         * @return builder
+         */
+        public ControllerConfigurationBuilder withFieldSelector(String fieldSelector) {
+            this.controllerConfiguration.fieldSelector = fieldSelector;
+            return this;
+        }
+
+        /**
+         * Set the work queue name.
+         * @param workQueue work queue name
+         * @return builder
+         */
+        public ControllerConfigurationBuilder withWorkQueue(String workQueue) {
+            this.controllerConfiguration.workQueue = workQueue;
+            return this;
+        }
+
+        /**
+         * Set the max batch size.
+         * @param batchSize max batch size
+         * @return builder
+         */
+        public ControllerConfigurationBuilder withBatchSize(int batchSize) {
+            this.controllerConfiguration.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Set the batch window.
+         * @param batchWindow batch window
+         * @return builder
+         */
+        public ControllerConfigurationBuilder withBatchWindow(Duration batchWindow) {
+            this.controllerConfiguration.batchWindow = batchWindow;
+            return this;
+        }
+
         /**
          * Set the filter for added resources.
          * @param onAddFilter on add predicate
@@ -23,11 +23,15 @@ import io.micronaut.context.BeanContext;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.kubernetes.client.ApiClientConfiguration;
+import io.micronaut.kubernetes.client.VirtualThreads;
 import io.micronaut.kubernetes.client.operator.controller.ControllerBuilder;
 import io.micronaut.kubernetes.client.operator.controller.ControllerManagerBuilder;
 import io.micronaut.kubernetes.client.operator.controller.LeaderElectingControllerBuilder;
 import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.apache.commons.compress.utils.Sets;
@@ -35,6 +39,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Bean creates the controllers based on the {@link ControllerConfiguration} and registers them as singletons into
@@ -54,17 +59,50 @@ public class ControllerFactory {
     private final ControllerManagerBuilder controllerManagerBuilder;
     private final LeaderElectingControllerBuilder leaderElectingControllerBuilder;
     private final ExecutorService executorService;
+    private final ThreadFactory virtualThreadFactory;
 
+    /**
+     * @param beanContext                     the bean context
+     * @param controllerBuilder               the controller builder
+     * @param controllerManagerBuilder        the controller manager builder
+     * @param leaderElectingControllerBuilder the leader electing controller builder
+     * @param executorService                 the executor the leader electing controllers run on
+     * @deprecated Use new version {@link ControllerFactory#ControllerFactory(BeanContext, ControllerBuilder, ControllerManagerBuilder, LeaderElectingControllerBuilder, ExecutorService, ApiClientConfiguration)}
+     */
+    @Deprecated
     public ControllerFactory(@NonNull BeanContext beanContext,
                              @NonNull ControllerBuilder controllerBuilder,
                              @NonNull ControllerManagerBuilder controllerManagerBuilder,
                              @NonNull LeaderElectingControllerBuilder leaderElectingControllerBuilder,
                              @Named(TaskExecutors.IO) ExecutorService executorService) {
+        this(beanContext, controllerBuilder, controllerManagerBuilder, leaderElectingControllerBuilder, executorService, null);
+    }
+
+    /**
+     * @param beanContext                     the bean context
+     * @param controllerBuilder               the controller builder
+     * @param controllerManagerBuilder        the controller manager builder
+     * @param leaderElectingControllerBuilder the leader electing controller builder
+     * @param executorService                 the executor the leader electing controllers run on
+     * @param apiClientConfiguration          the api client configuration, the leader electing controllers run on
+     *                                        the virtual threads when its {@link ApiClientConfiguration#isVirtualThreads()}
+     *                                        mode is enabled
+     * @since 6.2
+     */
+    @Inject
+    public ControllerFactory(@NonNull BeanContext beanContext,
+                             @NonNull ControllerBuilder controllerBuilder,
+                             @NonNull ControllerManagerBuilder controllerManagerBuilder,
+                             @NonNull LeaderElectingControllerBuilder leaderElectingControllerBuilder,
+                             @Named(TaskExecutors.IO) ExecutorService executorService,
+                             @Nullable ApiClientConfiguration apiClientConfiguration) {
         this.beanContext = beanContext;
         this.controllerBuilder = controllerBuilder;
         this.controllerManagerBuilder = controllerManagerBuilder;
         this.leaderElectingControllerBuilder = leaderElectingControllerBuilder;
         this.executorService = executorService;
+        this.virtualThreadFactory = VirtualThreads.threadFactory(
+                apiClientConfiguration != null && apiClientConfiguration.isVirtualThreads(), "leader-electing-controller-");
     }
 
     /**
@@ -99,7 +137,11 @@ public class ControllerFactory {
             LOG.debug("Injected leaderElectingController with @Named qualifier: " + controllerName + " to the bean context");
         }
 
-        executorService.execute(leaderElectingController);
+        if (virtualThreadFactory != null) {
+            virtualThreadFactory.newThread(leaderElectingController).start();
+        } else {
+            executorService.execute(leaderElectingController);
+        }
 
         if (LOG.isInfoEnabled()) {
             LOG.info("@Operator name: " + controllerName + " for type: " + controllerConfiguration.getApiType() + " started");
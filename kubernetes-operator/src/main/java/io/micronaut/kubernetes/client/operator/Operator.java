@@ -58,4 +58,32 @@ public @interface Operator {
     Class<? extends BiPredicate<? extends KubernetesObject, ? extends KubernetesObject>> onUpdateFilter() default DefaultUpdateFilter.class;
 
     Class<? extends BiPredicate<? extends KubernetesObject, Boolean>> onDeleteFilter() default DefaultDeleteFilter.class;
+
+    /**
+     * The name of the work queue configuration {@code kubernetes.client.operator.work-queues.<name>} the reconcile
+     * requests are queued by. If not provided the default work queue is used.
+     *
+     * @return work queue name
+     * @since 6.2
+     */
+    String workQueue() default "";
+
+    /**
+     * The maximal number of the requests reconciled at once by the {@link BatchResourceReconciler}. The batch is also
+     * limited by the controller worker count, therefore the batches larger than the default worker count require
+     * the {@code kubernetes.client.operator.worker-count} to be raised to match. Ignored by the other reconcilers.
+     *
+     * @return max batch size
+     * @since 6.2
+     */
+    int batchSize() default BatchResourceReconciler.DEFAULT_BATCH_SIZE;
+
+    /**
+     * The time in milliseconds the requests are collected for the {@link BatchResourceReconciler} before they are
+     * reconciled, unless the batch is full. Ignored by the other reconcilers.
+     *
+     * @return batch window in milliseconds
+     * @since 6.2
+     */
+    long batchWindow() default BatchResourceReconciler.DEFAULT_BATCH_WINDOW;
 }
@@ -23,6 +23,7 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.kubernetes.client.informer.SharedIndexInformerFactory;
 import org.apache.commons.collections4.map.HashedMap;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -55,15 +56,36 @@ public class OperatorResourceLister<ApiType extends KubernetesObject> {
      * @param request the reconciliation request
      * @return optional resource in local cache
      */
-    @SuppressWarnings("unchecked")
     @NonNull
     public Optional<ApiType> get(@NonNull Request request) {
-        final SharedIndexInformer<ApiType> sharedIndexInformer = informerMap.computeIfAbsent(request.getNamespace(), namespace -> {
+        final SharedIndexInformer<ApiType> sharedIndexInformer = informerFor(request.getNamespace());
+        final String key = metaNamespaceKeyFunc(request.getNamespace(), request.getName());
+        return Optional.ofNullable(sharedIndexInformer.getIndexer().getByKey(key));
+    }
+
+    /**
+     * Get the kubernetes resources indexed by the given value from the {@link SharedIndexInformer}'s
+     * {@link io.kubernetes.client.informer.cache.Cache} of the given namespace. The index has to be registered by the
+     * {@link io.micronaut.kubernetes.client.informer.InformerIndexer} bean.
+     *
+     * @param namespace    the namespace of the informer, empty for the informer of all namespaces
+     * @param indexName    the index name
+     * @param indexedValue the indexed value
+     * @return the indexed resources in local cache
+     * @throws IllegalArgumentException if the index isn't registered
+     * @since 6.2
+     */
+    @NonNull
+    public List<ApiType> byIndex(@NonNull String namespace, @NonNull String indexName, @NonNull String indexedValue) {
+        return informerFor(namespace).getIndexer().byIndex(indexName, indexedValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SharedIndexInformer<ApiType> informerFor(String requestNamespace) {
+        return informerMap.computeIfAbsent(requestNamespace, namespace -> {
             Class<? extends KubernetesObject> apiType = controllerConfiguration.getApiType();
             return (SharedIndexInformer<ApiType>) sharedIndexInformerFactory.getExistingSharedIndexInformer(namespace, apiType);
         });
-        final String key = metaNamespaceKeyFunc(request.getNamespace(), request.getName());
-        return Optional.ofNullable(sharedIndexInformer.getIndexer().getByKey(key));
     }
 
     /**
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client.operator.configuration;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+
+/**
+ * The named configuration of the operator work queue, selected by {@link io.micronaut.kubernetes.client.operator.Operator#workQueue()}.
+ *
+ * @since 6.2
+ */
+@EachProperty(WorkQueueConfigurationProperties.PREFIX)
+public class WorkQueueConfigurationProperties {
+
+    public static final String PREFIX = OperatorConfigurationProperties.PREFIX + ".work-queues";
+
+    public static final long DEFAULT_BUCKET_CAPACITY = 100;
+    public static final long DEFAULT_BUCKET_REFILL_TOKENS = 10;
+    public static final Duration DEFAULT_BUCKET_REFILL_PERIOD = Duration.ofMinutes(1);
+    public static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(5);
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(1000);
+    public static final int DEFAULT_SHARDS = 1;
+
+    private final String name;
+    private RateLimiterType rateLimiter = RateLimiterType.DEFAULT;
+    private long bucketCapacity = DEFAULT_BUCKET_CAPACITY;
+    private long bucketRefillTokens = DEFAULT_BUCKET_REFILL_TOKENS;
+    private Duration bucketRefillPeriod = DEFAULT_BUCKET_REFILL_PERIOD;
+    private Duration baseDelay = DEFAULT_BASE_DELAY;
+    private Duration maxDelay = DEFAULT_MAX_DELAY;
+    private int shards = DEFAULT_SHARDS;
+
+    /**
+     * @param name the work queue name
+     */
+    public WorkQueueConfigurationProperties(@Parameter String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return the work queue name
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The rate limiter of the requeued requests. Default {@link RateLimiterType#DEFAULT}.
+     *
+     * @return the rate limiter type
+     */
+    @NonNull
+    public RateLimiterType getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Sets the rate limiter of the requeued requests.
+     *
+     * @param rateLimiter the rate limiter type
+     */
+    public void setRateLimiter(@NonNull RateLimiterType rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * The capacity of the token bucket, i.e. the burst of the requests requeued without a delay. Default
+     * {@link #DEFAULT_BUCKET_CAPACITY}.
+     *
+     * @return the token bucket capacity
+     */
+    public long getBucketCapacity() {
+        return bucketCapacity;
+    }
+
+    /**
+     * Sets the capacity of the token bucket.
+     *
+     * @param bucketCapacity the token bucket capacity
+     */
+    public void setBucketCapacity(long bucketCapacity) {
+        this.bucketCapacity = bucketCapacity;
+    }
+
+    /**
+     * The tokens added to the token bucket in the refill period. Default {@link #DEFAULT_BUCKET_REFILL_TOKENS}.
+     *
+     * @return the refill tokens
+     */
+    public long getBucketRefillTokens() {
+        return bucketRefillTokens;
+    }
+
+    /**
+     * Sets the tokens added to the token bucket in the refill period.
+     *
+     * @param bucketRefillTokens the refill tokens
+     */
+    public void setBucketRefillTokens(long bucketRefillTokens) {
+        this.bucketRefillTokens = bucketRefillTokens;
+    }
+
+    /**
+     * The token bucket refill period. Default 1 minute.
+     *
+     * @return the refill period
+     */
+    @NonNull
+    public Duration getBucketRefillPeriod() {
+        return bucketRefillPeriod;
+    }
+
+    /**
+     * Sets the token bucket refill period.
+     *
+     * @param bucketRefillPeriod the refill period
+     */
+    public void setBucketRefillPeriod(@NonNull Duration bucketRefillPeriod) {
+        this.bucketRefillPeriod = bucketRefillPeriod;
+    }
+
+    /**
+     * The delay of the first requeue of the failed request, doubled by every next requeue. Default 5 milliseconds.
+     *
+     * @return the base delay
+     */
+    @NonNull
+    public Duration getBaseDelay() {
+        return baseDelay;
+    }
+
+    /**
+     * Sets the delay of the first requeue of the failed request.
+     *
+     * @param baseDelay the base delay
+     */
+    public void setBaseDelay(@NonNull Duration baseDelay) {
+        this.baseDelay = baseDelay;
+    }
+
+    /**
+     * The maximal delay of the requeued request. Default 1000 seconds.
+     *
+     * @return the max delay
+     */
+    @NonNull
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Sets the maximal delay of the requeued request.
+     *
+     * @param maxDelay the max delay
+     */
+    public void setMaxDelay(@NonNull Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * The number of the queues the requests are spread to by their key, each of them consumed by its own controller
+     * workers. The requests of the same resource are always queued by the same queue. The number is capped by the
+     * controller worker count. Default {@link #DEFAULT_SHARDS}.
+     *
+     * @return the number of the shards
+     */
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * Sets the number of the queues the requests are spread to by their key.
+     *
+     * @param shards the number of the shards
+     */
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+
+    /**
+     * The rate limiter of the requeued requests.
+     */
+    public enum RateLimiterType {
+        /**
+         * The maximum of the {@link #BUCKET} and {@link #EXPONENTIAL} rate limiters with the default parameters.
+         */
+        DEFAULT,
+        /**
+         * The token bucket rate limiter shared by all the requests.
+         */
+        BUCKET,
+        /**
+         * The rate limiter that exponentially delays the requeues of the same request.
+         */
+        EXPONENTIAL,
+        /**
+         * The maximum of the {@link #BUCKET} and {@link #EXPONENTIAL} rate limiters.
+         */
+        MAX_OF
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client.operator.controller;
+
+import io.kubernetes.client.extended.controller.reconciler.Reconciler;
+import io.kubernetes.client.extended.controller.reconciler.Request;
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The {@link Reconciler} that collects the requests reconciled concurrently by the controller workers into the batches
+ * reconciled at once. The first worker of the batch waits for the batch window, or until the batch is full, and then
+ * reconciles the whole batch, while the other workers of the batch wait for its results.
+ *
+ * @since 6.2
+ */
+@Internal
+public final class BatchingReconciler implements Reconciler {
+    private static final Logger LOG = LoggerFactory.getLogger(BatchingReconciler.class);
+
+    private final Function<List<Request>, Map<Request, Result>> batchReconciler;
+    private final int batchSize;
+    private final Duration batchWindow;
+    private final Object lock = new Object();
+    private Batch collectingBatch;
+
+    /**
+     * @param batchReconciler the reconciler of the batch
+     * @param batchSize       the max batch size
+     * @param batchWindow     the time the requests are collected
+     */
+    public BatchingReconciler(@NonNull Function<List<Request>, Map<Request, Result>> batchReconciler,
+                              int batchSize,
+                              @NonNull Duration batchWindow) {
+        this.batchReconciler = batchReconciler;
+        this.batchSize = Math.max(1, batchSize);
+        this.batchWindow = batchWindow;
+    }
+
+    @Override
+    public Result reconcile(Request request) {
+        Batch batch;
+        boolean first;
+        synchronized (lock) {
+            first = collectingBatch == null;
+            if (first) {
+                collectingBatch = new Batch();
+            }
+            batch = collectingBatch;
+            batch.requests.add(request);
+            if (batch.requests.size() >= batchSize) {
+                collectingBatch = null;
+                batch.full.countDown();
+            }
+        }
+        if (first) {
+            awaitBatch(batch);
+            synchronized (lock) {
+                if (collectingBatch == batch) {
+                    collectingBatch = null;
+                }
+            }
+            batch.results.complete(reconcile(batch.requests));
+        }
+        Result result = batch.results.join().get(request);
+        return result != null ? result : new Result(false);
+    }
+
+    private void awaitBatch(Batch batch) {
+        try {
+            batch.full.await(batchWindow.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<Request, Result> reconcile(List<Request> requests) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Reconciling batch of {} requests", requests.size());
+        }
+        try {
+            return batchReconciler.apply(requests);
+        } catch (Throwable t) {
+            LOG.error("Batch reconciler aborted unexpectedly", t);
+            Map<Request, Result> results = new HashMap<>(requests.size());
+            requests.forEach(request -> results.put(request, new Result(true)));
+            return results;
+        }
+    }
+
+    /**
+     * The batch of the requests.
+     */
+    private static final class Batch {
+        private final List<Request> requests = new ArrayList<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+        private final CompletableFuture<Map<Request, Result>> results = new CompletableFuture<>();
+    }
+}
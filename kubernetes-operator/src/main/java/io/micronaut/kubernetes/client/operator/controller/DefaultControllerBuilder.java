@@ -19,19 +19,28 @@ import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.extended.controller.ControllerWatch;
 import io.kubernetes.client.extended.controller.Controllers;
 import io.kubernetes.client.extended.controller.DefaultController;
+import io.kubernetes.client.extended.controller.reconciler.Reconciler;
 import io.kubernetes.client.extended.controller.reconciler.Request;
 import io.kubernetes.client.extended.workqueue.RateLimitingQueue;
 import io.kubernetes.client.informer.ResourceEventHandler;
 import io.kubernetes.client.informer.SharedIndexInformer;
 import io.micronaut.context.BeanContext;
+import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.kubernetes.client.ApiClientConfiguration;
+import io.micronaut.kubernetes.client.VirtualThreads;
 import io.micronaut.kubernetes.client.informer.SharedIndexInformerFactory;
+import io.micronaut.kubernetes.client.operator.BatchResourceReconciler;
 import io.micronaut.kubernetes.client.operator.OperatorResourceLister;
 import io.micronaut.kubernetes.client.operator.ResourceReconciler;
 import io.micronaut.kubernetes.client.operator.ControllerConfiguration;
 import io.micronaut.kubernetes.client.operator.configuration.OperatorConfigurationProperties;
+import io.micronaut.kubernetes.client.operator.configuration.WorkQueueConfigurationProperties;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +48,7 @@ import org.slf4j.LoggerFactory;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Supplier;
 
 /**
@@ -56,16 +66,45 @@ public class DefaultControllerBuilder implements ControllerBuilder {
     private final ControllerWatchBuilder controllerWatchBuilder;
     private final SharedIndexInformerFactory sharedIndexInformerFactory;
     private final OperatorConfigurationProperties operatorConfiguration;
+    private final boolean virtualThreads;
 
+    /**
+     * @param beanContext                the bean context
+     * @param controllerWatchBuilder     the controller watch builder
+     * @param sharedIndexInformerFactory the shared index informer factory
+     * @param operatorConfiguration      the operator configuration
+     * @deprecated Use new version {@link DefaultControllerBuilder#DefaultControllerBuilder(BeanContext, ControllerWatchBuilder, SharedIndexInformerFactory, OperatorConfigurationProperties, ApiClientConfiguration)}
+     */
+    @Deprecated
     public DefaultControllerBuilder(
             @NonNull BeanContext beanContext,
             @NonNull ControllerWatchBuilder controllerWatchBuilder,
             @NonNull SharedIndexInformerFactory sharedIndexInformerFactory,
             @NonNull OperatorConfigurationProperties operatorConfiguration) {
+        this(beanContext, controllerWatchBuilder, sharedIndexInformerFactory, operatorConfiguration, null);
+    }
+
+    /**
+     * @param beanContext                the bean context
+     * @param controllerWatchBuilder     the controller watch builder
+     * @param sharedIndexInformerFactory the shared index informer factory
+     * @param operatorConfiguration      the operator configuration
+     * @param apiClientConfiguration     the api client configuration, the controller workers run on the virtual
+     *                                   threads when its {@link ApiClientConfiguration#isVirtualThreads()} mode is enabled
+     * @since 6.2
+     */
+    @Inject
+    public DefaultControllerBuilder(
+            @NonNull BeanContext beanContext,
+            @NonNull ControllerWatchBuilder controllerWatchBuilder,
+            @NonNull SharedIndexInformerFactory sharedIndexInformerFactory,
+            @NonNull OperatorConfigurationProperties operatorConfiguration,
+            @Nullable ApiClientConfiguration apiClientConfiguration) {
         this.beanContext = beanContext;
         this.controllerWatchBuilder = controllerWatchBuilder;
         this.sharedIndexInformerFactory = sharedIndexInformerFactory;
         this.operatorConfiguration = operatorConfiguration;
+        this.virtualThreads = apiClientConfiguration != null && apiClientConfiguration.isVirtualThreads();
     }
 
     @NonNull
@@ -75,7 +114,7 @@ public class DefaultControllerBuilder implements ControllerBuilder {
         final Set<String> namespaces = controllerConfiguration.getNamespaces();
         final String name = controllerConfiguration.getName();
 
-        final RateLimitingQueue<Request> workQueue = beanContext.createBean(RateLimitingQueue.class);
+        final RateLimitingQueue<Request> workQueue = createWorkQueue(controllerConfiguration);
         beanContext.registerSingleton(RateLimitingQueue.class, workQueue, Qualifiers.byName(name));
 
         final ControllerWatch<? extends KubernetesObject> controllerWatch = controllerWatchBuilder.buildControllerWatch(controllerConfiguration, workQueue);
@@ -96,26 +135,57 @@ public class DefaultControllerBuilder implements ControllerBuilder {
                     controllerConfiguration.getApiGroup(),
                     namespace,
                     controllerConfiguration.getLabelSelector(),
+                    controllerConfiguration.getFieldSelector(),
                     controllerConfiguration.getResyncCheckPeriod(),
                     false);
             informer.addEventHandler((ResourceEventHandler) controllerWatch.getResourceEventHandler());
             readyFuncs.add(informer::hasSynced);
         });
 
+        final Reconciler reconciler;
+        if (resourceReconciler instanceof BatchResourceReconciler) {
+            final BatchResourceReconciler<?> batchResourceReconciler = (BatchResourceReconciler<?>) resourceReconciler;
+            reconciler = new BatchingReconciler(
+                    requests ->
+                            batchResourceReconciler.reconcile(requests, new OperatorResourceLister<>(controllerConfiguration, sharedIndexInformerFactory)),
+                    // every request of the batch holds a worker, the batch holding all the workers can't grow
+                    Math.min(controllerConfiguration.getBatchSize(), operatorConfiguration.getWorkerCount()),
+                    controllerConfiguration.getBatchWindow());
+        } else {
+            reconciler = request ->
+                    resourceReconciler.reconcile(request, new OperatorResourceLister<>(controllerConfiguration, sharedIndexInformerFactory));
+        }
+
         final DefaultController controller = new DefaultController(
                 controllerConfiguration.getName(),
-                request ->
-                        resourceReconciler.reconcile(request, new OperatorResourceLister<>(controllerConfiguration, sharedIndexInformerFactory)),
+                reconciler,
                 workQueue,
                 readyFuncs.toArray(new Supplier[0]));
 
         operatorConfiguration.getReadyTimeout().ifPresent(controller::setReadyTimeout);
         int workerCount = operatorConfiguration.getWorkerCount();
         controller.setWorkerCount(workerCount);
+        ThreadFactory threadFactory = VirtualThreads.threadFactory(virtualThreads, name + "-controller-");
         controller.setWorkerThreadPool(
                 Executors.newScheduledThreadPool(
-                        workerCount, Controllers.namedControllerThreadFactory(name + "-controller")));
+                        workerCount, threadFactory != null ? threadFactory : Controllers.namedControllerThreadFactory(name + "-controller")));
 
         return controller;
     }
+
+    @SuppressWarnings("unchecked")
+    private RateLimitingQueue<Request> createWorkQueue(ControllerConfiguration controllerConfiguration) {
+        final String workQueue = controllerConfiguration.getWorkQueue();
+        if (StringUtils.isEmpty(workQueue)) {
+            return beanContext.createBean(RateLimitingQueue.class);
+        }
+        if (!beanContext.containsBean(WorkQueueConfigurationProperties.class, Qualifiers.byName(workQueue))) {
+            throw new ConfigurationException("Work queue [" + workQueue + "] of the controller [" + controllerConfiguration.getName()
+                    + "] is not configured by " + WorkQueueConfigurationProperties.PREFIX + "." + workQueue);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Creating controller[" + controllerConfiguration.getName() + "] work queue " + workQueue);
+        }
+        return beanContext.createBean(RateLimitingQueue.class, Qualifiers.byName(workQueue));
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client.operator.filter;
+
+import io.kubernetes.client.common.KubernetesObject;
+import jakarta.inject.Singleton;
+
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+/**
+ * The filter for updated resources that passes only the updates that changed the {@code metadata.generation} of the
+ * resource, i.e. the updates of its desired state. The updates of the status, labels or annotations, including those
+ * made by the reconciler itself, are filtered out. The resources that don't track the generation, and the periodic
+ * resync, always pass.
+ *
+ * @since 6.2
+ */
+@Singleton
+public class GenerationChangedUpdateFilter implements BiPredicate<KubernetesObject, KubernetesObject> {
+
+    @Override
+    public boolean test(KubernetesObject oldObject, KubernetesObject newObject) {
+        if (UpdateFilters.isResync(oldObject, newObject)) {
+            return true;
+        }
+        if (oldObject.getMetadata() == null || newObject.getMetadata() == null) {
+            return true;
+        }
+        Long oldGeneration = oldObject.getMetadata().getGeneration();
+        Long newGeneration = newObject.getMetadata().getGeneration();
+        if (oldGeneration == null || newGeneration == null) {
+            return true;
+        }
+        return !Objects.equals(oldGeneration, newGeneration);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client.operator.filter;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.generic.dynamic.DynamicKubernetesObject;
+import io.micronaut.core.annotation.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The utilities of the update filters. The resources are compared by their fields, i.e. by the fields of the typed
+ * model the resource is deserialized to, or by the JSON members of the {@link DynamicKubernetesObject}.
+ *
+ * @since 6.2
+ */
+final class UpdateFilters {
+
+    private static final String METADATA = "metadata";
+    private static final String SPEC = "spec";
+
+    private static final ClassValue<List<Field>> FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return Collections.unmodifiableList(fields);
+        }
+    };
+
+    private UpdateFilters() {
+    }
+
+    /**
+     * The periodic resync notifies the update of the same resource, therefore both objects have the same resource
+     * version.
+     *
+     * @param oldObject the old object
+     * @param newObject the new object
+     * @return true if the update is the resync
+     */
+    static boolean isResync(KubernetesObject oldObject, KubernetesObject newObject) {
+        if (oldObject == newObject) {
+            return true;
+        }
+        if (oldObject.getMetadata() == null || newObject.getMetadata() == null) {
+            return false;
+        }
+        String resourceVersion = oldObject.getMetadata().getResourceVersion();
+        return resourceVersion != null && Objects.equals(resourceVersion, newObject.getMetadata().getResourceVersion());
+    }
+
+    /**
+     * @param oldObject the old object
+     * @param newObject the new object
+     * @return true if the objects are of the same type and all their fields but the {@code metadata} are equal
+     */
+    static boolean equalsWithoutMetadata(KubernetesObject oldObject, KubernetesObject newObject) {
+        if (oldObject.getClass() != newObject.getClass()) {
+            return false;
+        }
+        if (oldObject instanceof DynamicKubernetesObject oldDynamic) {
+            return equalsWithoutMetadata(oldDynamic.getRaw(), ((DynamicKubernetesObject) newObject).getRaw());
+        }
+        for (Field field : FIELDS.get(oldObject.getClass())) {
+            if (!METADATA.equals(field.getName()) && !Objects.equals(value(field, oldObject), value(field, newObject))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equalsWithoutMetadata(JsonObject oldRaw, JsonObject newRaw) {
+        int oldSize = oldRaw.has(METADATA) ? oldRaw.size() - 1 : oldRaw.size();
+        int newSize = newRaw.has(METADATA) ? newRaw.size() - 1 : newRaw.size();
+        if (oldSize != newSize) {
+            return false;
+        }
+        for (Map.Entry<String, JsonElement> member : oldRaw.entrySet()) {
+            if (!METADATA.equals(member.getKey()) && !member.getValue().equals(newRaw.get(member.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param metadata the metadata
+     * @return the copy of the metadata without the {@code resourceVersion} and {@code managedFields}, the other fields
+     * are shared with the metadata
+     */
+    @Nullable
+    static V1ObjectMeta withoutVersionFields(@Nullable V1ObjectMeta metadata) {
+        if (metadata == null) {
+            return null;
+        }
+        return new V1ObjectMeta()
+                .annotations(metadata.getAnnotations())
+                .creationTimestamp(metadata.getCreationTimestamp())
+                .deletionGracePeriodSeconds(metadata.getDeletionGracePeriodSeconds())
+                .deletionTimestamp(metadata.getDeletionTimestamp())
+                .finalizers(metadata.getFinalizers())
+                .generateName(metadata.getGenerateName())
+                .generation(metadata.getGeneration())
+                .labels(metadata.getLabels())
+                .name(metadata.getName())
+                .namespace(metadata.getNamespace())
+                .ownerReferences(metadata.getOwnerReferences())
+                .selfLink(metadata.getSelfLink())
+                .uid(metadata.getUid());
+    }
+
+    /**
+     * @param object the object
+     * @return the {@code spec} of the object or null if the object has none
+     */
+    @Nullable
+    static Object spec(KubernetesObject object) {
+        if (object instanceof DynamicKubernetesObject dynamic) {
+            JsonElement spec = dynamic.getRaw().get(SPEC);
+            return spec == null || spec.isJsonNull() ? null : spec;
+        }
+        for (Field field : FIELDS.get(object.getClass())) {
+            if (SPEC.equals(field.getName())) {
+                return value(field, object);
+            }
+        }
+        return null;
+    }
+
+    private static Object value(Field field, Object object) {
+        try {
+            return field.get(object);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to read the field " + field.getName() + " of " + object.getClass().getName(), e);
+        }
+    }
+}
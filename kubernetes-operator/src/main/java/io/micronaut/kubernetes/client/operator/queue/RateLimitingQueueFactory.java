@@ -15,12 +15,28 @@
  */
 package io.micronaut.kubernetes.client.operator.queue;
 
+import io.kubernetes.client.extended.controller.reconciler.Request;
 import io.kubernetes.client.extended.workqueue.DefaultRateLimitingQueue;
 import io.kubernetes.client.extended.workqueue.RateLimitingQueue;
+import io.kubernetes.client.extended.workqueue.ratelimiter.BucketRateLimiter;
+import io.kubernetes.client.extended.workqueue.ratelimiter.DefaultControllerRateLimiter;
+import io.kubernetes.client.extended.workqueue.ratelimiter.ItemExponentialFailureRateLimiter;
+import io.kubernetes.client.extended.workqueue.ratelimiter.MaxOfRateLimiter;
+import io.kubernetes.client.extended.workqueue.ratelimiter.RateLimiter;
+import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.kubernetes.client.ApiClientConfiguration;
+import io.micronaut.kubernetes.client.VirtualThreads;
+import io.micronaut.kubernetes.client.operator.configuration.OperatorConfigurationProperties;
+import io.micronaut.kubernetes.client.operator.configuration.WorkQueueConfigurationProperties;
 import jakarta.inject.Singleton;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * The factory for {@link RateLimitingQueue}.
@@ -34,10 +50,84 @@ public class RateLimitingQueueFactory {
     /**
      * Creates {@link RateLimitingQueue}.
      * @return rate limiting queue
+     * @deprecated Use {@link #rateLimitingQueue(ApiClientConfiguration)}.
      */
     @SuppressWarnings("rawtypes")
-    @Singleton
+    @Deprecated
     public RateLimitingQueue rateLimitingQueue() {
         return new DefaultRateLimitingQueue<>(Executors.newSingleThreadExecutor());
     }
+
+    /**
+     * Creates {@link RateLimitingQueue}. The delayed requests are awaited on the virtual thread when the
+     * {@link ApiClientConfiguration#isVirtualThreads()} mode is enabled.
+     *
+     * @param apiClientConfiguration the api client configuration
+     * @return rate limiting queue
+     * @since 6.2
+     */
+    @SuppressWarnings("rawtypes")
+    @Singleton
+    @Primary
+    public RateLimitingQueue rateLimitingQueue(ApiClientConfiguration apiClientConfiguration) {
+        return new DefaultRateLimitingQueue<>(waitingWorker(apiClientConfiguration));
+    }
+
+    /**
+     * Creates {@link RateLimitingQueue} of the named {@link WorkQueueConfigurationProperties}. The queue is sharded
+     * when more than one {@link WorkQueueConfigurationProperties#getShards()} is configured, the number of the shards
+     * is capped by the {@link OperatorConfigurationProperties#getWorkerCount()}.
+     *
+     * @param workQueueConfiguration the work queue configuration
+     * @param apiClientConfiguration the api client configuration
+     * @param operatorConfiguration  the operator configuration
+     * @return rate limiting queue
+     * @since 6.2
+     */
+    @SuppressWarnings("rawtypes")
+    @EachBean(WorkQueueConfigurationProperties.class)
+    public RateLimitingQueue rateLimitingQueue(WorkQueueConfigurationProperties workQueueConfiguration,
+                                               ApiClientConfiguration apiClientConfiguration,
+                                               OperatorConfigurationProperties operatorConfiguration) {
+        // the rate limiters are thread safe, the shards share the same limits
+        RateLimiter<Request> rateLimiter = rateLimiter(workQueueConfiguration);
+        int shards = Math.max(1, Math.min(workQueueConfiguration.getShards(), operatorConfiguration.getWorkerCount()));
+        if (shards == 1) {
+            return new DefaultRateLimitingQueue<>(waitingWorker(apiClientConfiguration), rateLimiter);
+        }
+        List<RateLimitingQueue<Request>> queues = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            queues.add(new DefaultRateLimitingQueue<>(waitingWorker(apiClientConfiguration), rateLimiter));
+        }
+        return new ShardedRateLimitingQueue<>(queues);
+    }
+
+    private static RateLimiter<Request> rateLimiter(WorkQueueConfigurationProperties configuration) {
+        switch (configuration.getRateLimiter()) {
+            case BUCKET:
+                return bucketRateLimiter(configuration);
+            case EXPONENTIAL:
+                return exponentialRateLimiter(configuration);
+            case MAX_OF:
+                return new MaxOfRateLimiter<>(exponentialRateLimiter(configuration), bucketRateLimiter(configuration));
+            default:
+                return new DefaultControllerRateLimiter<>();
+        }
+    }
+
+    private static RateLimiter<Request> bucketRateLimiter(WorkQueueConfigurationProperties configuration) {
+        return new BucketRateLimiter<>(configuration.getBucketCapacity(), configuration.getBucketRefillTokens(),
+                configuration.getBucketRefillPeriod());
+    }
+
+    private static RateLimiter<Request> exponentialRateLimiter(WorkQueueConfigurationProperties configuration) {
+        return new ItemExponentialFailureRateLimiter<>(configuration.getBaseDelay(), configuration.getMaxDelay());
+    }
+
+    private static ExecutorService waitingWorker(ApiClientConfiguration apiClientConfiguration) {
+        ThreadFactory threadFactory = VirtualThreads.threadFactory(apiClientConfiguration.isVirtualThreads(), "rate-limiting-queue-");
+        return threadFactory != null
+                ? Executors.newSingleThreadExecutor(threadFactory)
+                : Executors.newSingleThreadExecutor();
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.kubernetes.client.operator.queue;
+
+import io.kubernetes.client.extended.workqueue.RateLimitingQueue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@link RateLimitingQueue} that spreads the items to several queues by their hash code, so that the controller
+ * workers don't contend on the single queue lock. Every consuming thread is bound to one of the queues on its first
+ * {@link #get()}, in the round-robin order, therefore the queue expects a fixed pool of the consuming threads of at
+ * least the number of the queues. The same item is always queued by the same queue, which keeps it from being
+ * processed concurrently.
+ *
+ * @param <T> the item type
+ * @since 6.2
+ */
+@Internal
+public final class ShardedRateLimitingQueue<T> implements RateLimitingQueue<T> {
+
+    private final List<RateLimitingQueue<T>> shards;
+    private final AtomicInteger nextConsumerShard = new AtomicInteger();
+    private final ThreadLocal<Integer> consumerShard = ThreadLocal.withInitial(
+            () -> Math.floorMod(nextConsumerShard.getAndIncrement(), size()));
+
+    /**
+     * @param shards the queues the items are spread to
+     */
+    public ShardedRateLimitingQueue(@NonNull List<? extends RateLimitingQueue<T>> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = new ArrayList<>(shards);
+    }
+
+    /**
+     * @return the number of the shards
+     */
+    public int size() {
+        return shards.size();
+    }
+
+    @Override
+    public void add(T item) {
+        shardOf(item).add(item);
+    }
+
+    @Override
+    public void addAfter(T item, Duration duration) {
+        shardOf(item).addAfter(item, duration);
+    }
+
+    @Override
+    public void addRateLimited(T item) {
+        shardOf(item).addRateLimited(item);
+    }
+
+    @Override
+    public void forget(T item) {
+        shardOf(item).forget(item);
+    }
+
+    @Override
+    public int numRequeues(T item) {
+        return shardOf(item).numRequeues(item);
+    }
+
+    @Override
+    public int length() {
+        int length = 0;
+        for (RateLimitingQueue<T> shard : shards) {
+            length += shard.length();
+        }
+        return length;
+    }
+
+    @Override
+    public T get() throws InterruptedException {
+        return shards.get(consumerShard.get()).get();
+    }
+
+    @Override
+    public void done(T item) {
+        shardOf(item).done(item);
+    }
+
+    @Override
+    public void shutDown() {
+        shards.forEach(RateLimitingQueue::shutDown);
+    }
+
+    @Override
+    public boolean isShuttingDown() {
+        return shards.get(0).isShuttingDown();
+    }
+
+    private RateLimitingQueue<T> shardOf(T item) {
+        return shards.get(Math.floorMod(item.hashCode(), shards.size()));
+    }
+}
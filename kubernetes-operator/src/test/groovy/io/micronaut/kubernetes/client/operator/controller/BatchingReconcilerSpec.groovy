@@ -0,0 +1,69 @@
+package io.micronaut.kubernetes.client.operator.controller
+
+import io.kubernetes.client.extended.controller.reconciler.Request
+import io.kubernetes.client.extended.controller.reconciler.Result
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.Callable
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class BatchingReconcilerSpec extends Specification {
+
+    def "the concurrent requests are reconciled in batches"() {
+        given:
+        def batches = new CopyOnWriteArrayList<List<Request>>()
+        def reconciler = new BatchingReconciler({ List<Request> requests ->
+            batches << new ArrayList<>(requests)
+            requests.collectEntries { [(it): new Result(it.name == "name-1")] }
+        }, 4, Duration.ofSeconds(10))
+        def executor = Executors.newFixedThreadPool(8)
+
+        when:
+        def futures = (1..8).collect { int i ->
+            def request = new Request("default", "name-" + i)
+            executor.submit({ reconciler.reconcile(request) } as Callable<Result>)
+        }
+        def results = futures*.get(5, TimeUnit.SECONDS)
+
+        then:
+        batches.size() == 2
+        batches*.size() == [4, 4]
+        batches.flatten()*.name as Set == (1..8).collect { "name-" + it } as Set
+        results.count { it.isRequeue() } == 1
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    def "the batch is reconciled once the window elapses"() {
+        given:
+        def batches = []
+        def reconciler = new BatchingReconciler({ List<Request> requests ->
+            batches << new ArrayList<>(requests)
+            [:]
+        }, 100, Duration.ofMillis(10))
+
+        when:
+        def result = reconciler.reconcile(new Request("default", "name"))
+
+        then:
+        !result.isRequeue()
+        batches*.size() == [1]
+    }
+
+    def "the requests are requeued when the batch reconciliation fails"() {
+        given:
+        def reconciler = new BatchingReconciler({ List<Request> requests ->
+            throw new IllegalStateException("failed")
+        }, 1, Duration.ofSeconds(10))
+
+        when:
+        def result = reconciler.reconcile(new Request("default", "name"))
+
+        then:
+        result.isRequeue()
+    }
+}
@@ -0,0 +1,104 @@
+package io.micronaut.kubernetes.client.operator.filter
+
+import com.google.gson.JsonParser
+import io.kubernetes.client.openapi.models.V1ConfigMap
+import io.kubernetes.client.openapi.models.V1Deployment
+import io.kubernetes.client.openapi.models.V1DeploymentSpec
+import io.kubernetes.client.openapi.models.V1DeploymentStatus
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry
+import io.kubernetes.client.openapi.models.V1ObjectMeta
+import io.kubernetes.client.util.generic.dynamic.DynamicKubernetesObject
+import spock.lang.Specification
+
+class UpdateFiltersSpec extends Specification {
+
+    def "the generation changed filter passes only the updates of the generation"() {
+        given:
+        def filter = new GenerationChangedUpdateFilter()
+        def current = deployment("1", 1L, 1, 0)
+
+        expect:
+        filter.test(current, deployment("2", 2L, 2, 0))
+        !filter.test(current, deployment("2", 1L, 1, 1))
+        filter.test(current, deployment("1", 1L, 1, 0))
+        filter.test(configMap("1", "a"), configMap("2", "a"))
+    }
+
+    def "the resource changed filter ignores the changes of the resource version and managed fields"() {
+        given:
+        def filter = new ResourceChangedUpdateFilter()
+        def current = deployment("1", 1L, 1, 0)
+        def managed = deployment("2", 1L, 1, 0)
+        managed.metadata.managedFields([new V1ManagedFieldsEntry().manager("kubectl")])
+
+        expect:
+        !filter.test(current, managed)
+        filter.test(current, deployment("2", 1L, 1, 1))
+        filter.test(configMap("1", "a"), configMap("2", "b"))
+        !filter.test(configMap("1", "a"), configMap("2", "a"))
+        filter.test(current, deployment("1", 1L, 1, 0))
+    }
+
+    def "the spec changed filter passes only the updates of the spec"() {
+        given:
+        def filter = new SpecChangedUpdateFilter()
+        def current = deployment("1", 1L, 1, 0)
+
+        expect:
+        filter.test(current, deployment("2", 2L, 2, 0))
+        !filter.test(current, deployment("2", 1L, 1, 1))
+        !filter.test(current, deployment("2", 2L, 1, 0))
+        filter.test(current, deployment("1", 1L, 1, 0))
+        filter.test(configMap("1", "a"), configMap("2", "a"))
+    }
+
+    def "the resource changed filter passes the changes of the other metadata fields"() {
+        given:
+        def filter = new ResourceChangedUpdateFilter()
+        def current = deployment("1", 1L, 1, 0)
+        def labeled = deployment("2", 1L, 1, 0)
+        labeled.metadata.labels(["app": "example"])
+        def relabeled = deployment("3", 1L, 1, 0)
+        relabeled.metadata.labels(["app": "example"])
+
+        expect:
+        filter.test(current, labeled)
+        !filter.test(labeled, relabeled)
+    }
+
+    def "the filters compare the dynamic resources by their members"() {
+        given:
+        def resourceFilter = new ResourceChangedUpdateFilter()
+        def specFilter = new SpecChangedUpdateFilter()
+        def current = dynamic("1", 1, "Ready")
+
+        expect:
+        !resourceFilter.test(current, dynamic("2", 1, "Ready"))
+        resourceFilter.test(current, dynamic("2", 1, "Failed"))
+        !specFilter.test(current, dynamic("2", 1, "Failed"))
+        specFilter.test(current, dynamic("2", 2, "Ready"))
+    }
+
+    private static V1Deployment deployment(String resourceVersion, Long generation, int replicas, int readyReplicas) {
+        new V1Deployment()
+                .metadata(new V1ObjectMeta().name("deployment").resourceVersion(resourceVersion).generation(generation))
+                .spec(new V1DeploymentSpec().replicas(replicas))
+                .status(new V1DeploymentStatus().readyReplicas(readyReplicas))
+    }
+
+    private static V1ConfigMap configMap(String resourceVersion, String value) {
+        new V1ConfigMap()
+                .metadata(new V1ObjectMeta().name("config-map").resourceVersion(resourceVersion))
+                .data(["key": value])
+    }
+
+    private static DynamicKubernetesObject dynamic(String resourceVersion, int replicas, String phase) {
+        new DynamicKubernetesObject(JsonParser.parseString("""{
+            "apiVersion": "example.com/v1",
+            "kind": "Example",
+            "metadata": {"name": "example", "resourceVersion": "$resourceVersion"},
+            "spec": {"replicas": $replicas},
+            "status": {"phase": "$phase"}
+        }""").getAsJsonObject())
+    }
+}
@@ -33,4 +33,26 @@ class RateLimitingQueueFactorySpec extends Specification {
         q1 == q2
         q1 != q3
     }
+
+    def "it creates the queue of the work queue configuration"() {
+        given:
+        ApplicationContext context = ApplicationContext.run([
+                "kubernetes.client.operator.worker-count"                    : 2,
+                "kubernetes.client.operator.work-queues.single.rate-limiter": "exponential",
+                "kubernetes.client.operator.work-queues.sharded.shards"      : 4,
+        ], Environment.KUBERNETES)
+
+        when:
+        def single = context.createBean(RateLimitingQueue, Qualifiers.byName("single"))
+        def sharded = context.createBean(RateLimitingQueue, Qualifiers.byName("sharded"))
+
+        then:
+        !(single instanceof ShardedRateLimitingQueue)
+        sharded instanceof ShardedRateLimitingQueue
+        ((ShardedRateLimitingQueue) sharded).size() == 2
+        !(context.createBean(RateLimitingQueue) instanceof ShardedRateLimitingQueue)
+
+        cleanup:
+        context.close()
+    }
 }
@@ -0,0 +1,66 @@
+package io.micronaut.kubernetes.client.operator.queue
+
+import io.kubernetes.client.extended.controller.reconciler.Request
+import io.kubernetes.client.extended.workqueue.DefaultRateLimitingQueue
+import spock.lang.Specification
+
+import java.util.concurrent.Executors
+
+class ShardedRateLimitingQueueSpec extends Specification {
+
+    def "the same item is always queued by the same shard"() {
+        given:
+        def shards = (1..4).collect { new DefaultRateLimitingQueue<Request>(Executors.newSingleThreadExecutor()) }
+        def queue = new ShardedRateLimitingQueue<Request>(shards)
+
+        when:
+        (1..20).each { queue.add(new Request("default", "name-" + it)) }
+        (1..20).each { queue.add(new Request("default", "name-" + it)) }
+
+        then:
+        queue.length() == 20
+        shards.withIndex().every { shard, int index ->
+            shard.length() == (1..20).count { Math.floorMod(new Request("default", "name-" + it).hashCode(), 4) == index }
+        }
+
+        cleanup:
+        queue.shutDown()
+    }
+
+    def "every consuming thread is bound to one shard"() {
+        given:
+        def shards = (1..2).collect { new DefaultRateLimitingQueue<Request>(Executors.newSingleThreadExecutor()) }
+        def queue = new ShardedRateLimitingQueue<Request>(shards)
+        def requests = (1..10).collect { new Request("default", "name-" + it) }
+        requests.each { queue.add(it) }
+
+        when:
+        def taken = [[], []]
+        def threads = (0..1).collect { int consumer ->
+            Thread.start {
+                Request request
+                while ((request = queue.get()) != null) {
+                    taken[consumer] << request
+                    queue.done(request)
+                    if (queue.length() == 0) {
+                        queue.shutDown()
+                    }
+                }
+            }
+        }
+        threads*.join(5000)
+
+        then:
+        taken.flatten() as Set == requests as Set
+        taken.every { consumed -> consumed.collect { Math.floorMod(it.hashCode(), 2) }.unique().size() <= 1 }
+        queue.isShuttingDown()
+    }
+
+    def "the shards are required"() {
+        when:
+        new ShardedRateLimitingQueue<Request>([])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}